@@ -0,0 +1,102 @@
+package org.ovirt.engine.core.aaa;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.lang.StringUtils;
+import org.ovirt.engine.core.utils.EngineLocalConfig;
+
+/**
+ * Bounded cache of the engine sessions of already validated SSO access tokens, used by the REST API authentication
+ * filter to avoid looking up the engine session on each request made with the same bearer token.
+ *
+ * Entries are keyed by the hash of the token, expire after {@code ENGINE_RESTAPI_TOKEN_CACHE_TTL} seconds and are
+ * invalidated by the engine as soon as the engine session of the token is removed (logout, revocation or expiry).
+ * Setting {@code ENGINE_RESTAPI_TOKEN_CACHE_SIZE} to 0 disables the cache.
+ */
+public class SsoTokenSessionCache {
+
+    private static final int maxSize =
+            EngineLocalConfig.getInstance().getInteger("ENGINE_RESTAPI_TOKEN_CACHE_SIZE", 1000);
+    private static final long ttl =
+            TimeUnit.SECONDS.toMillis(EngineLocalConfig.getInstance().getInteger("ENGINE_RESTAPI_TOKEN_CACHE_TTL", 60));
+
+    private static final Map<String, CacheEntry> cache = new LinkedHashMap<String, CacheEntry>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> eldest) {
+            return size() > maxSize;
+        }
+    };
+
+    private static final AtomicLong hits = new AtomicLong();
+    private static final AtomicLong misses = new AtomicLong();
+
+    private static class CacheEntry {
+        private final String engineSessionId;
+        private final long expirationTime;
+
+        CacheEntry(String engineSessionId, long expirationTime) {
+            this.engineSessionId = engineSessionId;
+            this.expirationTime = expirationTime;
+        }
+    }
+
+    /**
+     * Returns the engine session of the given token, or {@code null} if it is not cached or its entry has expired.
+     */
+    public static String getEngineSessionId(String token) {
+        if (maxSize <= 0 || StringUtils.isEmpty(token)) {
+            return null;
+        }
+        String key = hash(token);
+        CacheEntry entry;
+        synchronized (cache) {
+            entry = cache.get(key);
+            if (entry != null && entry.expirationTime < System.currentTimeMillis()) {
+                cache.remove(key);
+                entry = null;
+            }
+        }
+        if (entry == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+        hits.incrementAndGet();
+        return entry.engineSessionId;
+    }
+
+    public static void put(String token, String engineSessionId) {
+        if (maxSize <= 0 || StringUtils.isEmpty(token) || StringUtils.isEmpty(engineSessionId)) {
+            return;
+        }
+        String key = hash(token);
+        synchronized (cache) {
+            cache.put(key, new CacheEntry(engineSessionId, System.currentTimeMillis() + ttl));
+        }
+    }
+
+    public static void invalidate(String token) {
+        if (maxSize <= 0 || StringUtils.isEmpty(token)) {
+            return;
+        }
+        String key = hash(token);
+        synchronized (cache) {
+            cache.remove(key);
+        }
+    }
+
+    public static long getHits() {
+        return hits.get();
+    }
+
+    public static long getMisses() {
+        return misses.get();
+    }
+
+    private static String hash(String token) {
+        return DigestUtils.sha256Hex(token);
+    }
+}
@@ -5,6 +5,7 @@ import java.util.Arrays;
 import java.util.Map;
 
 import javax.naming.InitialContext;
+import javax.naming.NamingException;
 import javax.servlet.Filter;
 import javax.servlet.FilterChain;
 import javax.servlet.FilterConfig;
@@ -15,6 +16,7 @@ import javax.servlet.http.HttpServletRequest;
 
 import org.apache.commons.lang.StringUtils;
 import org.ovirt.engine.core.aaa.SsoOAuthServiceUtils;
+import org.ovirt.engine.core.aaa.SsoTokenSessionCache;
 import org.ovirt.engine.core.aaa.SsoUtils;
 import org.ovirt.engine.core.common.constants.SessionConstants;
 import org.ovirt.engine.core.common.queries.GetEngineSessionIdForSsoTokenQueryParameters;
@@ -61,23 +63,20 @@ public class SsoRestApiAuthFilter implements Filter {
                 } else if (headerValue.startsWith(BEARER)) {
                     log.debug("SsoRestApiAuthFilter authenticating using BEARER header");
                     token = headerValue.substring("Bearer".length()).trim();
-                    InitialContext ctx = new InitialContext();
-                    try {
-                        QueryReturnValue queryRetVal = FiltersHelper.getBackend(ctx).runPublicQuery(
-                                QueryType.GetEngineSessionIdForSsoToken,
-                                new GetEngineSessionIdForSsoTokenQueryParameters(token));
-                        if (queryRetVal.getSucceeded() && StringUtils.isNotEmpty(queryRetVal.getReturnValue())) {
-                            log.debug("SsoRestApiAuthFilter successfully authenticated using BEARER header");
-                            req.setAttribute(
-                                    SessionConstants.HTTP_SESSION_ENGINE_SESSION_ID_KEY,
-                                    queryRetVal.getReturnValue());
-                            req.setAttribute(
-                                    FiltersHelper.Constants.REQUEST_LOGIN_FILTER_AUTHENTICATION_DONE,
-                                    true);
-                            userSessionExists = true;
-                        }
-                    } finally {
-                        ctx.close();
+                    String engineSessionId = SsoTokenSessionCache.getEngineSessionId(token);
+                    if (engineSessionId == null) {
+                        engineSessionId = getEngineSessionIdForToken(token);
+                        SsoTokenSessionCache.put(token, engineSessionId);
+                    }
+                    if (StringUtils.isNotEmpty(engineSessionId)) {
+                        log.debug("SsoRestApiAuthFilter successfully authenticated using BEARER header");
+                        req.setAttribute(
+                                SessionConstants.HTTP_SESSION_ENGINE_SESSION_ID_KEY,
+                                engineSessionId);
+                        req.setAttribute(
+                                FiltersHelper.Constants.REQUEST_LOGIN_FILTER_AUTHENTICATION_DONE,
+                                true);
+                        userSessionExists = true;
                     }
                 } else {
                     throw new RuntimeException(String.format("Unsupported authentication header: %s", headerValue));
@@ -102,6 +101,27 @@ public class SsoRestApiAuthFilter implements Filter {
         }
     }
 
+    private String getEngineSessionIdForToken(String token) throws NamingException {
+        long startTime = System.currentTimeMillis();
+        InitialContext ctx = new InitialContext();
+        try {
+            QueryReturnValue queryRetVal = FiltersHelper.getBackend(ctx).runPublicQuery(
+                    QueryType.GetEngineSessionIdForSsoToken,
+                    new GetEngineSessionIdForSsoTokenQueryParameters(token));
+            if (!queryRetVal.getSucceeded()) {
+                return null;
+            }
+            return queryRetVal.getReturnValue();
+        } finally {
+            ctx.close();
+            log.debug("SsoRestApiAuthFilter looked up the engine session of the token in {} ms "
+                            + "(token cache hits: {}, misses: {})",
+                    System.currentTimeMillis() - startTime,
+                    SsoTokenSessionCache.getHits(),
+                    SsoTokenSessionCache.getMisses());
+        }
+    }
+
     @Override
     public void destroy() {
         // empty
@@ -53,7 +53,7 @@ public class AuditLogCleanupManager implements BackendService {
             DateTime latestTimeToKeep = DateTime.getNow().addDays(
                     Config.<Integer>getValue(ConfigValues.AuditLogAgingThreshold)
                             * -1);
-            auditLogDao.removeAllBeforeDate(latestTimeToKeep);
+            removeInBatches(latestTimeToKeep);
             log.debug("Finished cleanup");
         } catch (Throwable t) {
             log.error("Exception in performing audit log cleanup: {}", ExceptionUtils.getRootCauseMessage(t));
@@ -61,4 +61,22 @@ public class AuditLogCleanupManager implements BackendService {
         }
     }
 
+    /**
+     * Removes the expired entries in batches of bounded size, pausing between the batches in order not to hold long
+     * locks on the audit_log table while new events are written to it.
+     */
+    private void removeInBatches(Date latestTimeToKeep) {
+        int batchSize = Config.<Integer>getValue(ConfigValues.AuditLogCleanupBatchSize);
+        int pauseInMillis = Config.<Integer>getValue(ConfigValues.AuditLogCleanupBatchPauseInMillis);
+        long startTime = System.currentTimeMillis();
+        long totalRemoved = auditLogDao.removeAllBeforeDateInBatches(latestTimeToKeep, batchSize, pauseInMillis);
+
+        long duration = Math.max(System.currentTimeMillis() - startTime, 1);
+        log.info("Removed {} audit log entries older than '{}' in {} ms ({} entries/s)",
+                totalRemoved,
+                latestTimeToKeep,
+                duration,
+                totalRemoved * 1000 / duration);
+    }
+
 }
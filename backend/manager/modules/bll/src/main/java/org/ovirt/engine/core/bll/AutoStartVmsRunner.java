@@ -2,12 +2,17 @@ package org.ovirt.engine.core.bll;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.Date;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
@@ -37,6 +42,7 @@ import org.ovirt.engine.core.dao.SnapshotDao;
 import org.ovirt.engine.core.dao.VmDao;
 import org.ovirt.engine.core.utils.lock.EngineLock;
 import org.ovirt.engine.core.utils.lock.LockManager;
+import org.ovirt.engine.core.utils.threadpool.ThreadPoolUtil;
 import org.ovirt.engine.core.utils.threadpool.ThreadPools;
 import org.ovirt.engine.core.vdsbroker.monitoring.VmsMonitoring;
 import org.slf4j.Logger;
@@ -62,6 +68,10 @@ import org.slf4j.LoggerFactory;
  * we remove the VM from the list of VMs to start and skip it (the VM will not be automatically started).
  * - Otherwise, we successfully scheduled an attempt to start the VM. From this point on, it is the monitoring
  * module ({@link VmsMonitoring}) that will track the VM and re-register it to this service in case of a failure.
+ *
+ * The VMs are processed in tiers of equal priority, from the highest priority to the lowest one. The VMs of
+ * a tier that are ready to be started are started in parallel, at most
+ * {@link ConfigValues#AutoStartVmsRunnerMaxParallelStarts} at a time.
  */
 public abstract class AutoStartVmsRunner implements BackendService {
 
@@ -158,41 +168,152 @@ public abstract class AutoStartVmsRunner implements BackendService {
         // Update priority, user may have changed it
         vmsToRestart.forEach(vmToRestart -> vmToRestart.setVm(vms.get(vmToRestart.getVmId())));
 
-        if (considerPriority) {
-            // Sort only if priority is important
-            vmsToRestart.sort(
-                    Comparator.<AutoStartVmToRestart> comparingInt(a -> a.getVm() != null ? a.getVm().getPriority() : 0)
-                            .reversed());
+        int neededPriority = Integer.MIN_VALUE;
+        for (List<AutoStartVmToRestart> tier : groupByPriorityTier(vmsToRestart)) {
+            processPriorityTier(tier, neededPriority, iterationStartTime);
+
+            for (AutoStartVmToRestart autoStartVmToRestart : tier) {
+                if (autoStartVmToRestart.getVm() == null) {
+                    continue;
+                }
+
+                if (autoStartVmToRestart.getState() == AutoStartVmToRestart.State.VM_STARTING) {
+                    autoStartVmToRestart.setState(
+                            processVmStarting(autoStartVmToRestart, iterationStartTime));
+                }
+
+                if (autoStartVmToRestart.getState() == AutoStartVmToRestart.State.AUTOSTART_FINISHED) {
+                    autoStartVmsToRestart.remove(autoStartVmToRestart.getVmId());
+                    // The VM is running or failed to auto-start. It will not block VMs with lower priority
+                    continue;
+                }
+
+                neededPriority = Math.max(neededPriority, autoStartVmToRestart.getVm().getPriority());
+            }
         }
+    }
 
-        int neededPriority = Integer.MIN_VALUE;
-        for (AutoStartVmToRestart autoStartVmToRestart : vmsToRestart) {
+    /**
+     * Splits the VMs to restart into tiers of VMs that do not block each other. When priority is considered,
+     * each tier holds the VMs of a single priority and the tiers are ordered from the highest priority to the
+     * lowest one. Otherwise all the VMs belong to a single tier.
+     */
+    private Collection<List<AutoStartVmToRestart>> groupByPriorityTier(List<AutoStartVmToRestart> vmsToRestart) {
+        if (!considerPriority) {
+            return Collections.singletonList(vmsToRestart);
+        }
+
+        Map<Integer, List<AutoStartVmToRestart>> tiers = new TreeMap<>(Comparator.reverseOrder());
+        for (AutoStartVmToRestart vmToRestart : vmsToRestart) {
+            int priority = vmToRestart.getVm() != null ? vmToRestart.getVm().getPriority() : 0;
+            tiers.computeIfAbsent(priority, p -> new ArrayList<>()).add(vmToRestart);
+        }
+        return tiers.values();
+    }
+
+    /**
+     * Processes the VMs of a single priority tier that are down: the VMs that are ready to be started and
+     * for which the run lock was acquired are started together, at most
+     * {@link ConfigValues#AutoStartVmsRunnerMaxParallelStarts} at a time.
+     */
+    private void processPriorityTier(List<AutoStartVmToRestart> tier,
+            int neededPriority,
+            DateTime iterationStartTime) {
+        Map<AutoStartVmToRestart, EngineLock> vmsToRun = new LinkedHashMap<>();
+        for (AutoStartVmToRestart autoStartVmToRestart : tier) {
             if (autoStartVmToRestart.getVm() == null) {
                 log.debug("VM '{}' was removed, excluding it from auto-start list", autoStartVmToRestart.getVmId());
                 autoStartVmsToRestart.remove(autoStartVmToRestart.getVmId());
                 continue;
             }
 
-            if (autoStartVmToRestart.getState() == AutoStartVmToRestart.State.VM_DOWN) {
-                autoStartVmToRestart.setState(
-                        processVmDown(autoStartVmToRestart, neededPriority, iterationStartTime));
+            if (autoStartVmToRestart.getState() != AutoStartVmToRestart.State.VM_DOWN) {
+                continue;
             }
 
-            if (autoStartVmToRestart.getState() == AutoStartVmToRestart.State.VM_STARTING) {
-                autoStartVmToRestart.setState(
-                        processVmStarting(autoStartVmToRestart, iterationStartTime));
+            EngineLock runVmLock = prepareVmDown(autoStartVmToRestart, neededPriority, iterationStartTime);
+            if (runVmLock != null) {
+                vmsToRun.put(autoStartVmToRestart, runVmLock);
             }
+        }
 
-            if (autoStartVmToRestart.getState() == AutoStartVmToRestart.State.AUTOSTART_FINISHED) {
-                autoStartVmsToRestart.remove(autoStartVmToRestart.getVmId());
-                // The VM is running or failed to auto-start. It will not block VMs with lower priority
-                continue;
+        if (vmsToRun.isEmpty()) {
+            return;
+        }
+
+        long tierStartTime = System.currentTimeMillis();
+        Map<AutoStartVmToRestart, Boolean> results = runVms(vmsToRun);
+        results.forEach((autoStartVmToRestart, succeeded) -> {
+            if (succeeded) {
+                // The VM reached WaitForLunch. The STARTING state will monitor it's startup.
+                logTimeToRestart(autoStartVmToRestart);
+                autoStartVmToRestart.setState(AutoStartVmToRestart.State.VM_STARTING);
+            } else {
+                autoStartVmToRestart.setState(scheduleNextTimeToStart(
+                        autoStartVmToRestart, iterationStartTime, autoStartVmToRestart.getVm()));
             }
+        });
+
+        long succeeded = results.values().stream().filter(Boolean::booleanValue).count();
+        long duration = System.currentTimeMillis() - tierStartTime;
+        if (considerPriority) {
+            log.info("Auto-start of {} VM(s) with priority {} took {} ms, {} succeeded",
+                    results.size(),
+                    vmsToRun.keySet().iterator().next().getVm().getPriority(),
+                    duration,
+                    succeeded);
+        } else {
+            log.info("Auto-start of {} VM(s) took {} ms, {} succeeded", results.size(), duration, succeeded);
+        }
+    }
 
-            neededPriority = Math.max(neededPriority, autoStartVmToRestart.getVm().getPriority());
+    /**
+     * Runs the given VMs, at most {@link ConfigValues#AutoStartVmsRunnerMaxParallelStarts} at a time. The run lock of
+     * each VM is handed over to its RunVm command, the locks of the VMs that were not run are released so they are
+     * tried again in the next iteration.
+     */
+    Map<AutoStartVmToRestart, Boolean> runVms(Map<AutoStartVmToRestart, EngineLock> vmsToRun) {
+        int maxParallelStarts = Math.max(1, Config.<Integer> getValue(ConfigValues.AutoStartVmsRunnerMaxParallelStarts));
+        Map<AutoStartVmToRestart, Boolean> results = new ConcurrentHashMap<>();
+        try {
+            List<Callable<Void>> tasks = vmsToRun.entrySet()
+                    .stream()
+                    .<Callable<Void>> map(vmToRun -> () -> {
+                        runVm(vmToRun.getKey(), vmToRun.getValue(), results);
+                        return null;
+                    })
+                    .collect(Collectors.toList());
+            ThreadPoolUtil.invokeAll(tasks, maxParallelStarts);
+            return results;
+        } finally {
+            vmsToRun.forEach((vmToRestart, lock) -> {
+                if (!results.containsKey(vmToRestart)) {
+                    releaseLock(lock);
+                }
+            });
         }
     }
 
+    private void runVm(AutoStartVmToRestart vmToRestart,
+            EngineLock lock,
+            Map<AutoStartVmToRestart, Boolean> results) {
+        // the lock is owned by the RunVm command from now on
+        results.put(vmToRestart, false);
+        try {
+            results.put(vmToRestart, runVmAndUpdateStatus(vmToRestart.getVm(), lock));
+        } catch (RuntimeException e) {
+            log.error("Failed to auto-start VM '{}': {}", vmToRestart.getVm().getName(), e.getMessage());
+            log.debug("Exception", e);
+        }
+    }
+
+    private void logTimeToRestart(AutoStartVmToRestart autoStartVmToRestart) {
+        log.debug("VM '{}' ({}) was submitted for auto-start {} ms after it went down",
+                autoStartVmToRestart.getVm().getName(),
+                autoStartVmToRestart.getVmId(),
+                System.currentTimeMillis() - autoStartVmToRestart.getRegistrationTime());
+    }
+
     private void processVmsToAdd() {
         Set<Guid> vms;
         synchronized (vmsToAddLock) {
@@ -209,7 +330,14 @@ public abstract class AutoStartVmsRunner implements BackendService {
         vms.forEach(vmId -> autoStartVmsToRestart.put(vmId, createAutoStartVmToRestart(vmId)));
     }
 
-    private AutoStartVmToRestart.State processVmDown(AutoStartVmToRestart autoStartVmToRestart,
+    /**
+     * Checks whether the given VM which is down should be started in the current iteration and if so, acquires
+     * the lock for running it.
+     *
+     * @return the acquired lock if the VM should be started now, otherwise <code>null</code> and the state of
+     * the VM is updated accordingly
+     */
+    private EngineLock prepareVmDown(AutoStartVmToRestart autoStartVmToRestart,
             int neededPriority,
             DateTime iterationStartTime) {
 
@@ -219,18 +347,19 @@ public abstract class AutoStartVmsRunner implements BackendService {
         if (!vmNeedsToBeAutoStarted(vm)) {
             // This condition handles the case if the VM is started
             // manually in the middle of waiting interval
-            return AutoStartVmToRestart.State.VM_STARTING;
+            autoStartVmToRestart.setState(AutoStartVmToRestart.State.VM_STARTING);
+            return null;
         }
 
         // if it is not the time to try to run the VM yet, skip it for now
         // (we'll try again in the next iteration)
         if (!autoStartVmToRestart.isTimeToRun(iterationStartTime)) {
-            return AutoStartVmToRestart.State.VM_DOWN;
+            return null;
         }
 
         if (considerPriority && autoStartVmToRestart.isBlockedOnPriority(neededPriority, iterationStartTime)) {
             log.debug("VM has lower priority than other VMs. The start will be delayed.");
-            return AutoStartVmToRestart.State.VM_DOWN;
+            return null;
         }
 
         if (isNextRunConfiguration(vmId)) {
@@ -239,7 +368,7 @@ public abstract class AutoStartVmsRunner implements BackendService {
             if (autoStartVmToRestart.delayNextTimeToRun(iterationStartTime)) {
                 // Skip attempt to run the VM for now.
                 // The priority is to run the VM even if the NextRun fails to be applied
-                return AutoStartVmToRestart.State.VM_DOWN;
+                return null;
             }
             // Waiting for NextRun config is over, let's run the VM even with the non-applied Next-Run
             log.warn("Failed to wait for the NextRun config to be applied on vm '{}', trying to run the VM anyway", vm.getName());
@@ -251,7 +380,7 @@ public abstract class AutoStartVmsRunner implements BackendService {
         // acquired, skip for now  and we'll try again in the next iteration
         if (!acquireLock(runVmLock)) {
             log.debug("Could not acquire lock for auto starting VM '{}'", vm.getName());
-            return AutoStartVmToRestart.State.VM_DOWN;
+            return null;
         }
 
         // Test again, after acquiring the lock
@@ -259,15 +388,11 @@ public abstract class AutoStartVmsRunner implements BackendService {
             // if the VM doesn't need to be auto started anymore, release the lock and
             // remove the VM from the collection of VMs that should be auto started
             releaseLock(runVmLock);
-            return AutoStartVmToRestart.State.VM_STARTING;
+            autoStartVmToRestart.setState(AutoStartVmToRestart.State.VM_STARTING);
+            return null;
         }
 
-        if (runVmAndUpdateStatus(vm, runVmLock)) {
-            // The VM reached WaitForLunch. The STARTING state will monitor it's startup.
-            return AutoStartVmToRestart.State.VM_STARTING;
-        }
-
-        return scheduleNextTimeToStart(autoStartVmToRestart, iterationStartTime, vm);
+        return runVmLock;
     }
 
     private AutoStartVmToRestart.State processVmStarting(AutoStartVmToRestart vmToRestart, DateTime iterationStartTime) {
@@ -406,6 +531,9 @@ public abstract class AutoStartVmsRunner implements BackendService {
         /** The ID of the VM */
         private Guid vmId;
 
+        /** The time the VM was registered for being automatically started */
+        private final long registrationTime;
+
         private State state;
         private VM vm;
 
@@ -413,6 +541,7 @@ public abstract class AutoStartVmsRunner implements BackendService {
             this.vmId = vmId;
             timeToRunTheVm = MIN_DATE;
             state = State.VM_DOWN;
+            registrationTime = System.currentTimeMillis();
         }
 
         /**
@@ -448,6 +577,10 @@ public abstract class AutoStartVmsRunner implements BackendService {
             return vmId;
         }
 
+        long getRegistrationTime() {
+            return registrationTime;
+        }
+
         public State getState() {
             return state;
         }
@@ -35,6 +35,7 @@ import org.ovirt.engine.core.vdsbroker.VdsManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+@IndependentService
 @Singleton
 public class CertificationValidityChecker implements BackendService {
 
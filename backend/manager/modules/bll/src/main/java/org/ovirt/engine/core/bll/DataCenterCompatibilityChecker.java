@@ -25,6 +25,7 @@ import org.ovirt.engine.core.utils.threadpool.ThreadPools;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+@IndependentService
 @Singleton
 public class DataCenterCompatibilityChecker implements BackendService {
 
@@ -29,6 +29,7 @@ import org.slf4j.LoggerFactory;
  * Responsible for checking that a warm backup is available
  * raise alerts for no backup or too old backup.
  */
+@IndependentService
 @Singleton
 public class EngineBackupAwarenessManager implements BackendService {
 
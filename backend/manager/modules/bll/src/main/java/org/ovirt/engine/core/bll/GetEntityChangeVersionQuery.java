@@ -0,0 +1,25 @@
+package org.ovirt.engine.core.bll;
+
+import javax.inject.Inject;
+
+import org.ovirt.engine.core.bll.context.EngineContext;
+import org.ovirt.engine.core.common.queries.GetEntityChangeVersionParameters;
+import org.ovirt.engine.core.dal.dbbroker.auditloghandling.EntityChangeFeed;
+
+/**
+ * Returns the current change version of the entities of the requested search type, used by clients to skip
+ * re-running a search when nothing it may return has changed since they last ran it.
+ */
+public class GetEntityChangeVersionQuery<P extends GetEntityChangeVersionParameters> extends QueriesCommandBase<P> {
+    @Inject
+    private EntityChangeFeed entityChangeFeed;
+
+    public GetEntityChangeVersionQuery(P parameters, EngineContext engineContext) {
+        super(parameters, engineContext);
+    }
+
+    @Override
+    protected void executeQueryCommand() {
+        getQueryReturnValue().setReturnValue(entityChangeFeed.getVersion(getParameters().getSearchType()));
+    }
+}
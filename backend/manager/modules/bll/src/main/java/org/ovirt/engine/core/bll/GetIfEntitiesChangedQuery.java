@@ -0,0 +1,52 @@
+package org.ovirt.engine.core.bll;
+
+import java.util.Objects;
+
+import javax.inject.Inject;
+
+import org.ovirt.engine.core.bll.context.EngineContext;
+import org.ovirt.engine.core.common.interfaces.BackendLocal;
+import org.ovirt.engine.core.common.queries.GetIfEntitiesChangedParameters;
+import org.ovirt.engine.core.common.queries.QueryParametersBase;
+import org.ovirt.engine.core.common.queries.QueryReturnValue;
+import org.ovirt.engine.core.common.queries.VersionedQueryResult;
+import org.ovirt.engine.core.dal.dbbroker.auditloghandling.EntityChangeFeed;
+
+/**
+ * Runs the requested query on behalf of the caller only if the change version of the entities of the requested
+ * search type differs from the version the caller knows, so clients caching the result of a query can revalidate it
+ * in a single request. The version is read before the query runs, so a change made while it runs is seen by the next
+ * revalidation.
+ */
+public class GetIfEntitiesChangedQuery<P extends GetIfEntitiesChangedParameters> extends QueriesCommandBase<P> {
+    @Inject
+    private EntityChangeFeed entityChangeFeed;
+
+    @Inject
+    private BackendLocal backend;
+
+    public GetIfEntitiesChangedQuery(P parameters, EngineContext engineContext) {
+        super(parameters, engineContext);
+    }
+
+    @Override
+    protected void executeQueryCommand() {
+        long version = entityChangeFeed.getVersion(getParameters().getSearchType());
+        if (Objects.equals(getParameters().getKnownVersion(), version)) {
+            setReturnValue(new VersionedQueryResult(version, false, null));
+            return;
+        }
+
+        QueryParametersBase queryParameters = getParameters().getQueryParameters();
+        queryParameters.setSessionId(getParameters().getSessionId());
+        queryParameters.setFiltered(getParameters().isFiltered());
+        queryParameters.setRefresh(false);
+        QueryReturnValue queryReturnValue = backend.runQuery(getParameters().getQueryType(), queryParameters);
+        if (!queryReturnValue.getSucceeded()) {
+            getQueryReturnValue().setSucceeded(false);
+            getQueryReturnValue().setExceptionString(queryReturnValue.getExceptionString());
+            return;
+        }
+        setReturnValue(new VersionedQueryResult(version, true, queryReturnValue.getReturnValue()));
+    }
+}
@@ -0,0 +1,16 @@
+package org.ovirt.engine.core.bll;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a backend service whose initialization only schedules its own periodic work and does not use other backend
+ * services, so that it may be loaded concurrently with other such services, see {@link ServiceLoader#loadAll}.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface IndependentService {
+
+}
@@ -68,12 +68,12 @@ public class InitBackendServicesOnStartupBean implements InitBackendServicesOnSt
     @PostConstruct
     public void create() {
 
+        long start = System.currentTimeMillis();
         try {
             serviceLoader.load(ClusterCpuFlagsManager.class);
             // This must be done before starting to sample the hosts status from VDSM since the sampling will turn such host from Reboot to NonResponsive
             serviceLoader.load(PmHealthCheckManager.class);
-            serviceLoader.load(EngineBackupAwarenessManager.class);
-            serviceLoader.load(DataCenterCompatibilityChecker.class);
+            serviceLoader.loadAll(EngineBackupAwarenessManager.class, DataCenterCompatibilityChecker.class);
             serviceLoader.load(ResourceManager.class);
             serviceLoader.load(HostDeviceManager.class);
 
@@ -116,11 +116,13 @@ public class InitBackendServicesOnStartupBean implements InitBackendServicesOnSt
                 serviceLoader.load(AffinityRulesEnforcementManager.class);
             }
 
-            serviceLoader.load(CertificationValidityChecker.class);
-            serviceLoader.load(HostUpdatesCheckerService.class);
-            serviceLoader.load(IPTablesDeprecationNotifier.class);
-            serviceLoader.load(ExternalNetworkSyncService.class);
-            serviceLoader.load(AnsibleRunnerCleanUpService.class);
+            serviceLoader.loadAll(CertificationValidityChecker.class,
+                    HostUpdatesCheckerService.class,
+                    IPTablesDeprecationNotifier.class,
+                    ExternalNetworkSyncService.class,
+                    AnsibleRunnerCleanUpService.class);
+
+            serviceLoader.logLoadTimes(System.currentTimeMillis() - start);
         } catch (Exception ex) {
             log.error("Failed to initialize backend", ex);
             throw ex;
@@ -15,6 +15,8 @@ import org.ovirt.engine.core.common.action.ActionType;
 import org.ovirt.engine.core.common.action.RemoveVdsParameters;
 import org.ovirt.engine.core.common.businessentities.Cluster;
 import org.ovirt.engine.core.common.businessentities.VDS;
+import org.ovirt.engine.core.common.config.Config;
+import org.ovirt.engine.core.common.config.ConfigValues;
 import org.ovirt.engine.core.compat.Guid;
 import org.ovirt.engine.core.dao.ClusterDao;
 import org.ovirt.engine.core.dao.VdsDao;
@@ -71,7 +73,11 @@ public class MultipleActionsRunnersFactory {
             break;
         case PersistentHostSetupNetworks:
         case SyncAllHostNetworks:
-            runner = new ParallelMultipleActionsRunner(actionType, parameters, commandContext, isInternal);
+            runner = new ParallelMultipleActionsRunner(actionType,
+                    parameters,
+                    commandContext,
+                    isInternal,
+                    Config.<Integer> getValue(ConfigValues.SetupNetworksMaxParallelHosts));
             break;
         case AttachNetworkToCluster:
         case DetachNetworkToCluster:
@@ -1,31 +1,62 @@
 package org.ovirt.engine.core.bll;
 
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.stream.Collectors;
 
 import org.ovirt.engine.core.bll.context.CommandContext;
 import org.ovirt.engine.core.common.action.ActionParametersBase;
 import org.ovirt.engine.core.common.action.ActionType;
 import org.ovirt.engine.core.utils.threadpool.ThreadPoolUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+/**
+ * Executes the commands which passed validation in parallel. Each command is validated on its own, there is no
+ * validation shared between the commands, e.g. per cluster for the setup networks of its hosts.
+ */
 public class ParallelMultipleActionsRunner extends PrevalidatingMultipleActionsRunner {
 
+    private static final Logger log = LoggerFactory.getLogger(ParallelMultipleActionsRunner.class);
+
+    private final int maxParallelCommands;
+
     public ParallelMultipleActionsRunner(ActionType actionType,
             List<ActionParametersBase> parameters,
             CommandContext commandContext, boolean isInternal) {
-        super(actionType, parameters, commandContext, isInternal);
+        this(actionType, parameters, commandContext, isInternal, 0);
     }
 
-    @Override
-    protected void invokeCommands() {
-        runCommands();
+    /**
+     * @param maxParallelCommands
+     *            the maximum number of commands executed at the same time, the others wait for one of them to end. 0
+     *            for executing all the commands at the same time
+     */
+    public ParallelMultipleActionsRunner(ActionType actionType,
+            List<ActionParametersBase> parameters,
+            CommandContext commandContext, boolean isInternal, int maxParallelCommands) {
+        super(actionType, parameters, commandContext, isInternal);
+        this.maxParallelCommands = maxParallelCommands;
     }
 
     @Override
     protected void runCommands() {
-        for (final CommandBase<?> command : getCommands()) {
-            if (command.getReturnValue().isValid()) {
-                ThreadPoolUtil.execute(() -> executeValidatedCommand(command));
-            }
+        List<Callable<Void>> tasks = getCommands().stream()
+                .filter(command -> command.getReturnValue().isValid())
+                .<Callable<Void>> map(command -> () -> {
+                    executeValidatedCommandSafely(command);
+                    return null;
+                })
+                .collect(Collectors.toList());
+        ThreadPoolUtil.invokeAll(tasks, maxParallelCommands);
+    }
+
+    private void executeValidatedCommandSafely(CommandBase<?> command) {
+        try {
+            executeValidatedCommand(command);
+        } catch (RuntimeException e) {
+            log.error("Failed to execute command '{}': {}", command.getActionType(), e.getMessage());
+            log.debug("Exception", e);
         }
     }
 }
@@ -277,6 +277,9 @@ public class SearchQuery<P extends SearchParameters> extends QueriesCommandBase<
             vmHandler.updateVmStatistics(vm);
             vmHandler.updateConfiguredCpuVerb(vm);
             vmHandler.updateIsDifferentTimeZone(vm, javaZoneIdToOffset);
+            if (getParameters().isWithoutDetails()) {
+                omitDetails(vm);
+            }
             vmsById.put(vm.getId(), vm);
         }
         var vmIdsWithVnicsOutOfSync = vmNetworkInterfaceDao.getAllWithVnicOutOfSync(vmsById.keySet());
@@ -284,6 +287,18 @@ public class SearchQuery<P extends SearchParameters> extends QueriesCommandBase<
         return vms;
     }
 
+    /**
+     * Omits the dynamic data of the VM that can be large and is not shown in the VMs list: the installed
+     * applications, the guest containers, the lease info and the current NUMA pinning. The statistics are kept since
+     * they may be shared with the VM manager.
+     */
+    private static void omitDetails(VM vm) {
+        vm.setAppList(null);
+        vm.setGuestContainers(null);
+        vm.setLeaseInfo(null);
+        vm.setCurrentNumaPinning(null);
+    }
+
     private List<VDS> searchVDSsByDb() {
         List<VDS> data = genericSearch(vdsDao, true);
         for (VDS vds : data) {
@@ -523,6 +538,8 @@ public class SearchQuery<P extends SearchParameters> extends QueriesCommandBase<
             String searchText = getParameters().getSearchPattern();
             // do not cache expressions with '*' since it is translated to specific IDs that might be changed
             useCache = useCache && !searchText.contains(ASTR);
+            // do not cache keyset paginated queries since each one is bound to a different row
+            useCache = useCache && getParameters().getSearchAfter() <= 0;
             if (useCache) {
                 // first lets check the cache of queries.
                 searchKey = String.format("%1$s,%2$s,%3$s", searchText, getParameters().getMaxCount(), getParameters().getCaseSensitive());
@@ -593,6 +610,7 @@ public class SearchQuery<P extends SearchParameters> extends QueriesCommandBase<
                 searchObj.setMaxCount(Math.min(Integer.MAX_VALUE, getParameters().getMaxCount()));
                 // setting FromSearch value
                 searchObj.setSearchFrom(getParameters().getSearchFrom());
+                searchObj.setSearchAfter(getParameters().getSearchAfter());
                 if (searchObj.getError() != SyntaxError.NO_ERROR) {
                     int startPos = searchObj.getErrorStartPos();
                     int endPos = searchObj.getErrorEndPos();
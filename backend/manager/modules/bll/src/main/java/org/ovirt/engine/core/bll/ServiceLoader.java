@@ -1,11 +1,22 @@
 package org.ovirt.engine.core.bll;
 
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
 import javax.enterprise.inject.Any;
 import javax.enterprise.inject.Instance;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
 import org.ovirt.engine.core.common.BackendService;
+import org.ovirt.engine.core.common.config.Config;
+import org.ovirt.engine.core.common.config.ConfigValues;
+import org.ovirt.engine.core.utils.threadpool.ThreadPoolUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -18,6 +29,11 @@ public class ServiceLoader {
     @Any
     private Instance<BackendService> services;
 
+    /**
+     * The time it took to load each of the services, in milliseconds.
+     */
+    private final Map<Class<? extends BackendService>, Long> loadTimes = new ConcurrentHashMap<>();
+
     /**
      * Load CDI beans of type {@code BackendService} by simply getting their reference from
      * the bean manager. If the instance doesn't exist (which is the assumption) it will be created
@@ -31,7 +47,73 @@ public class ServiceLoader {
      * @param service a provider of {@code BackendService} instances. see {@linkplain Instance}
      */
     public void load(Class<? extends BackendService> service) {
+        long start = System.currentTimeMillis();
         BackendService backendService = services.select(service).get();
+        // services of a normal scope (e.g. @ApplicationScoped) are returned as client proxies, invoking the hook
+        // creates them
+        backendService.onServiceLoad();
+        loadTimes.put(service, System.currentTimeMillis() - start);
         log.info("Start {} ", backendService);
     }
+
+    /**
+     * Load the given services which do not depend on each other. If
+     * {@link ConfigValues#ParallelBackendServicesInitialization} is enabled and all the services are annotated with
+     * {@link IndependentService}, the services are loaded concurrently, otherwise they are loaded one by one in the
+     * given order.
+     *
+     * @param independentServices services which do not depend on each other
+     */
+    @SafeVarargs
+    public final void loadAll(Class<? extends BackendService>... independentServices) {
+        if (!Config.<Boolean> getValue(ConfigValues.ParallelBackendServicesInitialization)
+                || independentServices.length < 2
+                || !allIndependent(independentServices)) {
+            Arrays.stream(independentServices).forEach(this::load);
+            return;
+        }
+
+        List<Callable<Void>> tasks = Arrays.stream(independentServices)
+                .<Callable<Void>> map(service -> () -> {
+                    load(service);
+                    return null;
+                })
+                .collect(Collectors.toList());
+        ThreadPoolUtil.invokeAll(tasks);
+    }
+
+    private static boolean allIndependent(Class<? extends BackendService>[] services) {
+        for (Class<? extends BackendService> service : services) {
+            if (!service.isAnnotationPresent(IndependentService.class)) {
+                log.warn("Service {} is not annotated with @{}, loading the services {} one by one",
+                        service.getSimpleName(),
+                        IndependentService.class.getSimpleName(),
+                        Arrays.stream(services).map(Class::getSimpleName).collect(Collectors.toList()));
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Logs a summary of the initialization of the backend services, and in debug level the time it took to load each
+     * of the services loaded so far, the slowest first.
+     *
+     * @param initTime the time the whole initialization took, in milliseconds
+     */
+    public void logLoadTimes(long initTime) {
+        log.info("Initialization of backend services on startup took {} ms, loading {} services took {} ms",
+                initTime,
+                loadTimes.size(),
+                loadTimes.values().stream().mapToLong(Long::longValue).sum());
+        if (log.isDebugEnabled()) {
+            loadTimes.entrySet()
+                    .stream()
+                    .sorted(Map.Entry.<Class<? extends BackendService>, Long> comparingByValue(
+                            Comparator.reverseOrder()))
+                    .forEach(entry -> log.debug("Loading {} took {} ms",
+                            entry.getKey().getSimpleName(),
+                            entry.getValue()));
+        }
+    }
 }
@@ -3,9 +3,11 @@ package org.ovirt.engine.core.bll;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -41,6 +43,7 @@ import org.ovirt.engine.core.dao.VmDao;
 import org.ovirt.engine.core.dao.VmPoolDao;
 import org.ovirt.engine.core.dao.VmStaticDao;
 import org.ovirt.engine.core.di.Injector;
+import org.ovirt.engine.core.utils.threadpool.ThreadPoolUtil;
 import org.ovirt.engine.core.utils.threadpool.ThreadPools;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -56,6 +59,8 @@ public class VmPoolMonitor implements BackendService {
 
     private final Set<Guid> startingVms = ConcurrentHashMap.newKeySet();
 
+    private int nextPoolToServe;
+
     @Inject
     private VmPoolHandler vmPoolHandler;
     @Inject
@@ -98,15 +103,18 @@ public class VmPoolMonitor implements BackendService {
 
     /**
      * Goes over each VM Pool and makes sure there are at least as much prestarted VMs as defined in the prestartedVms
-     * field.
+     * field. Up to {@link ConfigValues#VmPoolMonitorMaxParallelPools} pools are processed in parallel, the VMs of
+     * each pool are started one after the other. The number of VMs started in a cycle, together with the VMs still
+     * starting from previous cycles, is limited by {@link ConfigValues#VmPoolMonitorMaxPrestartsPerCycle}.
      */
     private void managePrestartedVmsInAllVmPools() {
         lock.lock();
         try {
-            vmPoolDao.getAll()
+            List<VmPool> vmPools = vmPoolDao.getAll()
                     .stream()
                     .filter(pool -> pool.getPrestartedVms() > 0)
-                    .forEach(this::managePrestartedVmsInPool);
+                    .collect(Collectors.toList());
+            managePrestartedVmsInPools(vmPools);
         } catch (Throwable t) {
             log.error("Exception managing prestarted VMs in all VM pools: {}", ExceptionUtils.getRootCauseMessage(t));
             log.debug("Exception", t);
@@ -115,24 +123,84 @@ public class VmPoolMonitor implements BackendService {
         }
     }
 
+    private void managePrestartedVmsInPools(List<VmPool> vmPools) {
+        if (vmPools.isEmpty()) {
+            return;
+        }
+
+        int maxParallelPools = Config.<Integer> getValue(ConfigValues.VmPoolMonitorMaxParallelPools);
+        List<Integer> missingPrestartedVms = ThreadPoolUtil.invokeAll(vmPools.stream()
+                .<Callable<Integer>> map(vmPool -> () -> getNumOfMissingPrestartedVmsInPool(vmPool))
+                .collect(Collectors.toList()),
+                maxParallelPools);
+
+        // VMs which are still starting from previous cycles are counted against the budget, so
+        // that we back off while the hosts and the storage are busy with them
+        int budget = Config.<Integer> getValue(ConfigValues.VmPoolMonitorMaxPrestartsPerCycle) - startingVms.size();
+        if (budget <= 0) {
+            log.info("{} VMs are still being started, skipping prestarting VMs in this cycle", startingVms.size());
+            return;
+        }
+
+        Map<VmPool, Integer> numOfVmsToPrestart = shareBudget(vmPools, missingPrestartedVms, budget);
+        for (int i = 0; i < vmPools.size(); ++i) {
+            VmPool vmPool = vmPools.get(i);
+            Integer numOfVms = numOfVmsToPrestart.get(vmPool);
+            if (numOfVms != null) {
+                log.info("VmPool '{}' is missing {} prestarted VMs, attempting to prestart {} VMs",
+                        vmPool.getVmPoolId(),
+                        missingPrestartedVms.get(i),
+                        numOfVms);
+            }
+        }
+
+        if (numOfVmsToPrestart.isEmpty()) {
+            return;
+        }
+
+        long startTime = System.currentTimeMillis();
+        List<PrestartResult> results = ThreadPoolUtil.invokeAll(numOfVmsToPrestart.entrySet().stream()
+                .<Callable<PrestartResult>> map(entry -> () -> prestartVms(entry.getKey(), entry.getValue()))
+                .collect(Collectors.toList()),
+                maxParallelPools);
+        logResultOfPrestartVmsInPools(results, System.currentTimeMillis() - startTime);
+    }
+
     /**
-     * Checks how many prestarted VMs are missing in the pool, and attempts to prestart either that amount or BATCH_SIZE
-     * (the minimum between the two).
+     * Shares the budget of VMs to prestart in this cycle between the pools that miss prestarted VMs, one VM per pool
+     * at a time, up to {@link ConfigValues#VmPoolMonitorBatchSize} VMs per pool. When the budget does not suffice for
+     * all of them, the next cycle starts sharing at the pool that follows the last one served in this cycle, so that
+     * the pools listed first do not get the whole budget every time.
      */
-    private void managePrestartedVmsInPool(VmPool vmPool) {
-        int prestartedVms = getNumOfPrestartedVmsInPool(vmPool);
-        int missingPrestartedVms = vmPool.getPrestartedVms() - prestartedVms;
-        if (missingPrestartedVms > 0) {
-            // We do not want to start too many VMs at once
-            int numOfVmsToPrestart =
-                    Math.min(missingPrestartedVms, Config.<Integer> getValue(ConfigValues.VmPoolMonitorBatchSize));
-
-            log.info("VmPool '{}' is missing {} prestarted VMs, attempting to prestart {} VMs",
-                    vmPool.getVmPoolId(),
-                    missingPrestartedVms,
-                    numOfVmsToPrestart);
-            prestartVms(vmPool, numOfVmsToPrestart);
+    Map<VmPool, Integer> shareBudget(List<VmPool> vmPools, List<Integer> missingPrestartedVms, int budget) {
+        // We do not want to start too many VMs at once in a single pool
+        int batchSize = Config.<Integer> getValue(ConfigValues.VmPoolMonitorBatchSize);
+        Map<VmPool, Integer> numOfVmsToPrestart = new LinkedHashMap<>();
+        int numOfPools = vmPools.size();
+        int first = nextPoolToServe % numOfPools;
+        boolean served = true;
+        while (budget > 0 && served) {
+            served = false;
+            for (int i = 0; i < numOfPools && budget > 0; ++i) {
+                int poolIndex = (first + i) % numOfPools;
+                VmPool vmPool = vmPools.get(poolIndex);
+                int numOfVms = numOfVmsToPrestart.getOrDefault(vmPool, 0);
+                if (numOfVms < Math.min(missingPrestartedVms.get(poolIndex), batchSize)) {
+                    numOfVmsToPrestart.put(vmPool, numOfVms + 1);
+                    nextPoolToServe = poolIndex + 1;
+                    budget--;
+                    served = true;
+                }
+            }
         }
+        return numOfVmsToPrestart;
+    }
+
+    /**
+     * Checks how many prestarted VMs are missing in the pool.
+     */
+    private int getNumOfMissingPrestartedVmsInPool(VmPool vmPool) {
+        return vmPool.getPrestartedVms() - getNumOfPrestartedVmsInPool(vmPool);
     }
 
     private int getNumOfPrestartedVmsInPool(VmPool pool) {
@@ -149,7 +217,7 @@ public class VmPoolMonitor implements BackendService {
     /***
      * Prestarts the given amount of VMs in the given VM Pool.
      */
-    private void prestartVms(VmPool vmPool, int numOfVmsToPrestart) {
+    private PrestartResult prestartVms(VmPool vmPool, int numOfVmsToPrestart) {
         int failedAttempts = 0;
         int prestartedVms = 0;
         int maxFailedAttempts = Config.<Integer> getValue(ConfigValues.VmPoolMonitorMaxAttempts);
@@ -179,6 +247,8 @@ public class VmPoolMonitor implements BackendService {
         if (prestartedVms == 0) {
             log.info("No VMs available for prestarting");
         }
+
+        return new PrestartResult(prestartedVms, failureReasons);
     }
 
     private void collectVmPrestartFailureReasons(Guid vmId, Map<String, Set<Guid>> failureReasons, List<String> messages) {
@@ -214,6 +284,25 @@ public class VmPoolMonitor implements BackendService {
         }
     }
 
+    /**
+     * Logs the summary of the attempt to prestart VMs in all the VM Pools of a single cycle.
+     */
+    private void logResultOfPrestartVmsInPools(List<PrestartResult> results, long durationMs) {
+        int prestartedVms = results.stream().mapToInt(PrestartResult::getPrestartedVms).sum();
+        log.info("Prestarted {} VMs in {} VmPools within {} ms ({} VMs/min)",
+                prestartedVms,
+                results.size(),
+                durationMs,
+                durationMs > 0 ? prestartedVms * TimeUnit.MINUTES.toMillis(1) / durationMs : prestartedVms);
+
+        Map<String, Integer> failureCounts = new HashMap<>();
+        results.forEach(result -> result.getFailureReasons()
+                .forEach((reason, vms) -> failureCounts.merge(reason, vms.size(), Integer::sum)));
+        failureCounts.forEach((reason, count) -> log.info("{} VMs could not be prestarted with reason {}",
+                count,
+                reason));
+    }
+
     /**
      * Prestarts the given VM.
      * @return whether or not succeeded to prestart the VM
@@ -265,4 +354,22 @@ public class VmPoolMonitor implements BackendService {
         }
     }
 
+    private static class PrestartResult {
+        private final int prestartedVms;
+        private final Map<String, Set<Guid>> failureReasons;
+
+        PrestartResult(int prestartedVms, Map<String, Set<Guid>> failureReasons) {
+            this.prestartedVms = prestartedVms;
+            this.failureReasons = failureReasons;
+        }
+
+        int getPrestartedVms() {
+            return prestartedVms;
+        }
+
+        Map<String, Set<Guid>> getFailureReasons() {
+            return failureReasons;
+        }
+    }
+
 }
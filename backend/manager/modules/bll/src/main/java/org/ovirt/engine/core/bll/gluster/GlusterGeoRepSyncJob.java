@@ -26,6 +26,7 @@ import org.ovirt.engine.core.common.businessentities.gluster.GlusterGeoRepSessio
 import org.ovirt.engine.core.common.businessentities.gluster.GlusterGeoRepSessionConfiguration;
 import org.ovirt.engine.core.common.businessentities.gluster.GlusterGeoRepSessionDetails;
 import org.ovirt.engine.core.common.businessentities.gluster.GlusterVolumeEntity;
+import org.ovirt.engine.core.common.config.Config;
 import org.ovirt.engine.core.common.config.ConfigValues;
 import org.ovirt.engine.core.common.constants.gluster.GlusterConstants;
 import org.ovirt.engine.core.common.errors.EngineError;
@@ -66,23 +67,16 @@ public class GlusterGeoRepSyncJob extends GlusterJob {
 
     @OnTimerMethodAnnotation("gluster_georep_poll_event")
     public void discoverGeoRepData() {
-        // get all clusters
-        List<Cluster> clusters = clusterDao.getAll();
         // for every cluster that supports geo-rep monitoring
-        for (Cluster cluster : clusters) {
-            discoverGeoRepDataInCluster(cluster);
-        }
-
+        refreshClusters(clusterDao.getAll(), "geo-replication data", this::discoverGeoRepDataInCluster);
     }
 
     @OnTimerMethodAnnotation("gluster_georepstatus_poll_event")
     public void refreshGeoRepSessionStatus() {
-        // get all clusters
-        List<Cluster> clusters = clusterDao.getAll();
         // for every cluster that supports geo-rep monitoring
-        for (Cluster cluster : clusters) {
-            refreshGeoRepSessionStatusInCluster(cluster);
-        }
+        refreshClusters(clusterDao.getAll(),
+                "geo-replication session status",
+                this::refreshGeoRepSessionStatusInCluster);
     }
 
     private void refreshGeoRepSessionStatusInCluster(final Cluster cluster) {
@@ -118,7 +112,9 @@ public class GlusterGeoRepSyncJob extends GlusterJob {
             });
         }
 
-        List<GlusterGeoRepSession> updatedSessions = ThreadPoolUtil.invokeAll(geoRepSessionCalls);
+        List<GlusterGeoRepSession> updatedSessions =
+                ThreadPoolUtil.invokeAll(geoRepSessionCalls,
+                        Config.<Integer> getValue(ConfigValues.GlusterSyncMaxParallelTasksPerCluster));
         for (GlusterGeoRepSession updatedSession : updatedSessions) {
             if (updatedSession.getSessionDetails() == null) {
                 log.info("Geo-replication session details not updated for session '{}' as there was error returning data from VDS",
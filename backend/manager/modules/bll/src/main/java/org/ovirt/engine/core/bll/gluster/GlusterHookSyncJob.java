@@ -22,6 +22,7 @@ import org.ovirt.engine.core.common.businessentities.VDS;
 import org.ovirt.engine.core.common.businessentities.gluster.GlusterHookEntity;
 import org.ovirt.engine.core.common.businessentities.gluster.GlusterHookStatus;
 import org.ovirt.engine.core.common.businessentities.gluster.GlusterServerHook;
+import org.ovirt.engine.core.common.config.Config;
 import org.ovirt.engine.core.common.config.ConfigValues;
 import org.ovirt.engine.core.common.errors.EngineError;
 import org.ovirt.engine.core.common.errors.EngineException;
@@ -48,11 +49,7 @@ public class GlusterHookSyncJob extends GlusterJob {
     @OnTimerMethodAnnotation("refreshHooks")
     public void refreshHooks() {
         log.debug("Refreshing hooks list");
-        List<Cluster> clusters = clusterDao.getAll();
-
-        for (Cluster cluster : clusters) {
-            refreshHooksInCluster(cluster, false);
-        }
+        refreshClusters(clusterDao.getAll(), "hooks", cluster -> refreshHooksInCluster(cluster, false));
     }
 
     /**
@@ -80,7 +77,9 @@ public class GlusterHookSyncJob extends GlusterJob {
                 return new Pair<>(upServer, returnValue);
             });
         }
-        List<Pair<VDS, VDSReturnValue>> pairResults = ThreadPoolUtil.invokeAll(taskList);
+        List<Pair<VDS, VDSReturnValue>> pairResults =
+                ThreadPoolUtil.invokeAll(taskList,
+                        Config.<Integer> getValue(ConfigValues.GlusterSyncMaxParallelTasksPerCluster));
         try {
             addOrUpdateHooks(cluster.getId(), pairResults);
         } catch (EngineException e) {
@@ -231,7 +230,9 @@ public class GlusterHookSyncJob extends GlusterJob {
         if (contentTasksList.isEmpty()) {
             return;
         }
-        List<Pair<GlusterHookEntity, VDSReturnValue>> pairResults = ThreadPoolUtil.invokeAll(contentTasksList);
+        List<Pair<GlusterHookEntity, VDSReturnValue>> pairResults =
+                ThreadPoolUtil.invokeAll(contentTasksList,
+                        Config.<Integer> getValue(ConfigValues.GlusterSyncMaxParallelTasksPerCluster));
 
         for (Pair<GlusterHookEntity, VDSReturnValue> pairResult: pairResults) {
             final GlusterHookEntity hook = pairResult.getFirst();
@@ -3,7 +3,10 @@ package org.ovirt.engine.core.bll.gluster;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.Callable;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 import javax.inject.Inject;
 
@@ -11,6 +14,7 @@ import org.ovirt.engine.core.bll.LockMessagesMatchUtil;
 import org.ovirt.engine.core.bll.scheduling.OvirtGlusterSchedulingService;
 import org.ovirt.engine.core.bll.utils.GlusterAuditLogUtil;
 import org.ovirt.engine.core.bll.utils.GlusterUtil;
+import org.ovirt.engine.core.common.businessentities.Cluster;
 import org.ovirt.engine.core.common.businessentities.VDS;
 import org.ovirt.engine.core.common.businessentities.gluster.GlusterServerInfo;
 import org.ovirt.engine.core.common.config.Config;
@@ -45,6 +49,7 @@ import org.ovirt.engine.core.dao.network.InterfaceDao;
 import org.ovirt.engine.core.dao.network.NetworkDao;
 import org.ovirt.engine.core.utils.lock.EngineLock;
 import org.ovirt.engine.core.utils.lock.LockManager;
+import org.ovirt.engine.core.utils.threadpool.ThreadPoolUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -135,6 +140,53 @@ public abstract class GlusterJob {
         ));
     }
 
+    /**
+     * Runs the given refresh for each of the given clusters. The clusters are refreshed in parallel, at most
+     * {@link ConfigValues#GlusterSyncMaxParallelClusters} at a time, and a failure to refresh one cluster doesn't
+     * prevent the others from being refreshed. The refresh of a cluster should run at most
+     * {@link ConfigValues#GlusterSyncMaxParallelTasksPerCluster} of its per host tasks at a time, as they are submitted
+     * to the thread pool that already runs the clusters.
+     *
+     * @param dataDescription
+     *            description of the refreshed data, used for logging
+     */
+    protected void refreshClusters(List<Cluster> clusters, String dataDescription, Consumer<Cluster> refresh) {
+        long startTime = System.currentTimeMillis();
+        if (clusters.size() <= 1) {
+            clusters.forEach(cluster -> refreshCluster(cluster, dataDescription, refresh));
+        } else {
+            List<Callable<Void>> tasks = clusters.stream()
+                    .<Callable<Void>> map(cluster -> () -> {
+                        refreshCluster(cluster, dataDescription, refresh);
+                        return null;
+                    })
+                    .collect(Collectors.toList());
+            ThreadPoolUtil.invokeAll(tasks, Config.<Integer> getValue(ConfigValues.GlusterSyncMaxParallelClusters));
+        }
+        log.debug("Refreshing Gluster {} of {} clusters took {} ms",
+                dataDescription,
+                clusters.size(),
+                System.currentTimeMillis() - startTime);
+    }
+
+    private void refreshCluster(Cluster cluster, String dataDescription, Consumer<Cluster> refresh) {
+        long startTime = System.currentTimeMillis();
+        try {
+            refresh.accept(cluster);
+        } catch (Exception e) {
+            log.error("Error while refreshing Gluster {} of cluster '{}': {}",
+                    dataDescription,
+                    cluster.getName(),
+                    e.getMessage());
+            log.debug("Exception", e);
+        } finally {
+            log.debug("Refreshing Gluster {} of cluster '{}' took {} ms",
+                    dataDescription,
+                    cluster.getName(),
+                    System.currentTimeMillis() - startTime);
+        }
+    }
+
     @SuppressWarnings("unchecked")
     protected List<GlusterServerInfo> fetchServers(VDS upServer) {
         VDSReturnValue result = runVdsCommand(VDSCommandType.GlusterServersList, new VdsIdVDSCommandParametersBase(upServer.getId()));
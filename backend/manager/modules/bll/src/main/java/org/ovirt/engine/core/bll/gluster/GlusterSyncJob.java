@@ -10,6 +10,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -111,20 +112,14 @@ public class GlusterSyncJob extends GlusterJob {
     @OnTimerMethodAnnotation("refreshLightWeightData")
     public void refreshLightWeightData() {
         log.debug("Refreshing Gluster Data [lightweight]");
-        List<Cluster> clusters = clusterDao.getAll();
+        refreshClusters(getGlusterClusters(), "lightweight data", this::refreshClusterData);
+    }
 
-        for (Cluster cluster : clusters) {
-            if (cluster.supportsGlusterService()) {
-                try {
-                    refreshClusterData(cluster);
-                } catch (Exception e) {
-                    log.error("Error while refreshing Gluster lightweight data of cluster '{}': {}",
-                            cluster.getName(),
-                            e.getMessage());
-                    log.debug("Exception", e);
-                }
-            }
-        }
+    private List<Cluster> getGlusterClusters() {
+        return clusterDao.getAll()
+                .stream()
+                .filter(Cluster::supportsGlusterService)
+                .collect(Collectors.toList());
     }
 
     private void refreshClusterData(Cluster cluster) {
@@ -914,19 +909,7 @@ public class GlusterSyncJob extends GlusterJob {
     @OnTimerMethodAnnotation("refreshHeavyWeightData")
     public void refreshHeavyWeightData() {
         log.debug("Refreshing Gluster Data [heavyweight]");
-
-        for (Cluster cluster : clusterDao.getAll()) {
-            if (cluster.supportsGlusterService()) {
-                try {
-                    refreshClusterHeavyWeightData(cluster);
-                } catch (Exception e) {
-                    log.error("Error while refreshing Gluster heavyweight data of cluster '{}': {}",
-                            cluster.getName(),
-                            e.getMessage());
-                    log.debug("Exception", e);
-                }
-            }
-        }
+        refreshClusters(getGlusterClusters(), "heavyweight data", this::refreshClusterHeavyWeightData);
     }
 
     private void refreshClusterHeavyWeightData(Cluster cluster) {
@@ -1111,19 +1094,7 @@ public class GlusterSyncJob extends GlusterJob {
     @OnTimerMethodAnnotation("refreshSelfHealInfo")
     public void refreshSelfHealInfo() {
         log.debug("Refreshing Gluster Self Heal Data");
-
-        for (Cluster cluster : clusterDao.getAll()) {
-            if (cluster.supportsGlusterService()) {
-                try {
-                    refreshSelfHealData(cluster);
-                } catch (Exception e) {
-                    log.error("Error while refreshing Gluster self heal data of cluster '{}': {}",
-                            cluster.getName(),
-                            e.getMessage());
-                    log.debug("Exception", e);
-                }
-            }
-        }
+        refreshClusters(getGlusterClusters(), "self heal data", this::refreshSelfHealData);
 
         log.debug("Refreshing Gluster Self Heal data is completed");
     }
@@ -126,10 +126,10 @@ public class SshSoftFencingCommand<T extends VdsActionParameters> extends VdsCom
                 Config.<Integer>getValue(ConfigValues.TimeoutToResetVdsInSeconds));
         long passedTime=0;
         log.info("Waiting to host {} {} seconds to become up after soft fencing execution",
-                vdsManager.getCopyVds().getHostName(),
+                vdsManager.getVdsHostname(),
                 graceTime/100);
         while (passedTime <= graceTime) {
-            if (vdsManager.getCopyVds().getStatus() == VDSStatus.Up) {
+            if (vdsManager.getStatus() == VDSStatus.Up) {
                 // host became Up during grace period
                 return true;
             }
@@ -6,8 +6,12 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
 
 import javax.annotation.PostConstruct;
 import javax.enterprise.concurrent.ManagedScheduledExecutorService;
@@ -41,7 +45,11 @@ import org.slf4j.LoggerFactory;
 
 @Singleton
 public class QuotaManager implements BackendService {
+    private static final int QUOTA_LOCK_STRIPES = 64;
+
     private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // Guards the usage of the cached quotas, so consumptions against different quotas don't block each other
+    private final Lock[] quotaLocks = new Lock[QUOTA_LOCK_STRIPES];
     private final Logger log = LoggerFactory.getLogger(QuotaManager.class);
     private Map<Guid, Map<Guid, Quota>> storagePoolQuotaMap = new HashMap<>();
     private Map<Guid, Guid> storagePoolDefaultQuotaIdMap = new HashMap<>();
@@ -63,6 +71,9 @@ public class QuotaManager implements BackendService {
 
     // constructor is exposed only for Java test. //TODO remove it when arquillian test used.
     protected QuotaManager() {
+        for (int i = 0; i < quotaLocks.length; i++) {
+            quotaLocks[i] = new ReentrantLock();
+        }
     }
 
     @PostConstruct
@@ -88,11 +99,9 @@ public class QuotaManager implements BackendService {
             if (!storagePoolQuotaMap.containsKey(storagePoolId)) {
                 return;
             }
-            synchronized (storagePoolQuotaMap.get(storagePoolId)) {
-                Map<Guid, Quota> map = storagePoolQuotaMap.get(storagePoolId);
-                for (Guid quotaId : quotaList) {
-                    map.remove(quotaId);
-                }
+            Map<Guid, Quota> map = storagePoolQuotaMap.get(storagePoolId);
+            for (Guid quotaId : quotaList) {
+                map.remove(quotaId);
             }
         } finally {
             lock.writeLock().unlock();
@@ -118,7 +127,7 @@ public class QuotaManager implements BackendService {
             return;
         }
 
-        storagePoolQuotaMap.put(storagePoolId, new HashMap<>());
+        storagePoolQuotaMap.put(storagePoolId, new ConcurrentHashMap<>());
         Quota defaultQuota = getQuotaDao().getDefaultQuotaForStoragePool(storagePoolId);
         storagePoolDefaultQuotaIdMap.put(storagePoolId, defaultQuota.getId());
     }
@@ -210,9 +219,7 @@ public class QuotaManager implements BackendService {
         lock.readLock().lock();
         try {
             if (command.getStoragePool().getQuotaEnforcementType() != QuotaEnforcementTypeEnum.DISABLED) {
-                synchronized (storagePoolQuotaMap.get(storagePool.getId())) {
-                    return consumeQuotaParameters(params, command, auditLogger);
-                }
+                return consumeQuotaParameters(params, command, auditLogger);
             }
         } finally {
             lock.readLock().unlock();
@@ -238,7 +245,10 @@ public class QuotaManager implements BackendService {
             if (quota != null) {
                 // cache in quota map
                 if (storagePoolId.equals(quota.getStoragePoolId())) {
-                    quotaMap.put(quotaId, quota);
+                    Quota cachedQuota = quotaMap.putIfAbsent(quotaId, quota);
+                    if (cachedQuota != null) {
+                        quota = cachedQuota;
+                    }
                 } else {
                     throw new InvalidQuotaParametersException(
                             String.format("Quota %s does not match storage pool %s", quotaId.toString()
@@ -362,7 +372,7 @@ public class QuotaManager implements BackendService {
 
         for (Quota quota : allQuotaIncludingConsumption) {
             if (!newStoragePoolQuotaMap.containsKey(quota.getStoragePoolId())) {
-                newStoragePoolQuotaMap.put(quota.getStoragePoolId(), new HashMap<>());
+                newStoragePoolQuotaMap.put(quota.getStoragePoolId(), new ConcurrentHashMap<>());
             }
             newStoragePoolQuotaMap.get(quota.getStoragePoolId()).put(quota.getId(), quota);
 
@@ -461,19 +471,38 @@ public class QuotaManager implements BackendService {
             return false;
         }
 
-        // Validate that all requests satisfy the quota limits
-        for (Request request : requests.get()) {
-            ValidationResult validation = request.validate(hardEnforcement, auditLogger);
-            if(!validation.isValid()) {
-                command.getReturnValue().getValidationMessages().addAll(validation.getMessagesAsStrings());
-                return false;
+        List<Lock> locks = getQuotaLocks(requests.get());
+        locks.forEach(Lock::lock);
+        try {
+            // Validate that all requests satisfy the quota limits
+            for (Request request : requests.get()) {
+                ValidationResult validation = request.validate(hardEnforcement, auditLogger);
+                if (!validation.isValid()) {
+                    command.getReturnValue().getValidationMessages().addAll(validation.getMessagesAsStrings());
+                    return false;
+                }
             }
+
+            // After successful validation, the requests are applied.
+            // This changes only the cached quota objects in the QuotaManager, nothing is written to the DB.
+            requests.get().forEach(Request::apply);
+            return true;
+        } finally {
+            locks.forEach(Lock::unlock);
         }
+    }
 
-        // After successful validation, the requests are applied.
-        // This changes only the cached quota objects in the QuotaManager, nothing is written to the DB.
-        requests.get().forEach(Request::apply);
-        return true;
+    /**
+     * Returns the locks guarding the quotas of the given requests, in the order they should be acquired in to avoid
+     * deadlocks between concurrent consumptions.
+     */
+    private List<Lock> getQuotaLocks(List<Request> requests) {
+        return requests.stream()
+                .mapToInt(request -> Math.floorMod(request.getQuota().getId().hashCode(), quotaLocks.length))
+                .distinct()
+                .sorted()
+                .mapToObj(stripe -> quotaLocks[stripe])
+                .collect(Collectors.toList());
     }
 
     /**
@@ -1,9 +1,16 @@
 package org.ovirt.engine.core.bll.scheduling;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 import javax.annotation.PostConstruct;
 import javax.enterprise.concurrent.ManagedScheduledExecutorService;
@@ -23,10 +30,14 @@ import org.ovirt.engine.core.common.businessentities.Cluster;
 import org.ovirt.engine.core.common.businessentities.VM;
 import org.ovirt.engine.core.common.config.Config;
 import org.ovirt.engine.core.common.config.ConfigValues;
+import org.ovirt.engine.core.common.scheduling.AffinityGroup;
+import org.ovirt.engine.core.compat.Guid;
 import org.ovirt.engine.core.dal.dbbroker.auditloghandling.AuditLogDirector;
 import org.ovirt.engine.core.dal.dbbroker.auditloghandling.AuditLogableImpl;
 import org.ovirt.engine.core.dal.dbbroker.auditloghandling.MessageBundler;
 import org.ovirt.engine.core.dao.ClusterDao;
+import org.ovirt.engine.core.dao.scheduling.AffinityGroupDao;
+import org.ovirt.engine.core.utils.threadpool.ThreadPoolUtil;
 import org.ovirt.engine.core.utils.threadpool.ThreadPools;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -41,6 +52,8 @@ public class AffinityRulesEnforcementManager implements BackendService {
     @Inject
     private ClusterDao clusterDao;
     @Inject
+    private AffinityGroupDao affinityGroupDao;
+    @Inject
     private AffinityRulesEnforcer rulesEnforcer;
     @Inject
     private BackendInternal backend;
@@ -69,35 +82,114 @@ public class AffinityRulesEnforcementManager implements BackendService {
         return Config.<Long>getValue(ConfigValues.AffinityRulesEnforcementManagerRegularInterval);
     }
 
+    private int getMaxMigrationsPerCluster() {
+        return Config.<Integer>getValue(ConfigValues.AffinityRulesEnforcementManagerMaxMigrationsPerCluster);
+    }
+
+    private int getMaxParallelClusters() {
+        return Config.<Integer>getValue(ConfigValues.AffinityRulesEnforcementManagerMaxParallelClusters);
+    }
+
     /**
      * refresh method is called each interval of AffinityRulesEnforcementManager. It will try to find a broken affinity rule, choose a VM then, migrate it in order
      * to fix the breakage.
+     *
+     * The clusters are independent of each other, so when there are several of them they are enforced in parallel, up
+     * to {@link ConfigValues#AffinityRulesEnforcementManagerMaxParallelClusters} at once.
      */
     public void refresh() {
         try {
             log.debug("Affinity Rules Enforcement Manager interval reached.");
+            long start = System.currentTimeMillis();
+
+            List<Cluster> clusters = clusterDao.getWithoutMigratingVms().stream()
+                    .filter(cluster -> !cluster.isInUpgradeMode())
+                    .collect(Collectors.toList());
+            int maxMigrations = getMaxMigrationsPerCluster();
+
+            List<Integer> migrationsPerCluster;
+            if (clusters.size() > 1) {
+                migrationsPerCluster = ThreadPoolUtil.invokeAll(clusters.stream()
+                        .<Callable<Integer>> map(cluster -> () -> enforce(cluster, maxMigrations))
+                        .collect(Collectors.toList()),
+                        getMaxParallelClusters());
+            } else {
+                migrationsPerCluster = clusters.stream()
+                        .map(cluster -> enforce(cluster, maxMigrations))
+                        .collect(Collectors.toList());
+            }
 
-            final List<Iterator<VM>> vmCandidatesPerCluster = new ArrayList<>();
-            for (Cluster cluster : clusterDao.getWithoutMigratingVms()) {
-                if (!cluster.isInUpgradeMode()) {
-                    vmCandidatesPerCluster.add(rulesEnforcer.chooseVmsToMigrate(cluster));
-                }
+            long clustersWithMigrations = migrationsPerCluster.stream().filter(count -> count > 0).count();
+            if (clustersWithMigrations > 0) {
+                log.info("Affinity rules enforcement migrated {} VMs from {} of {} clusters in {} ms",
+                        migrationsPerCluster.stream().mapToInt(Integer::intValue).sum(),
+                        clustersWithMigrations,
+                        clusters.size(),
+                        System.currentTimeMillis() - start);
             }
+        } catch (Throwable t) {
+            log.error("Exception in refreshing affinity rules: {}", ExceptionUtils.getRootCauseMessage(t));
+            log.debug("Exception", t);
+        }
+    }
+
+    /**
+     * Migrates up to the given number of VMs, breaking affinity rules, from the given cluster.
+     *
+     * The candidates are chosen again after each migration, as the migration may have changed which rules are broken.
+     * The migrations are only started at this point, so the migrated VMs and the VMs that share an affinity group
+     * with them are skipped: the conflicts of the group are not resolved before the migration completes, and moving
+     * another VM of the group could undo the migration.
+     *
+     * @return the number of VMs that were migrated
+     */
+    private int enforce(Cluster cluster, int maxMigrations) {
+        int migrations = 0;
+        try {
+            Set<Guid> migratedVmIds = new HashSet<>();
+            Set<Guid> migratedGroupIds = new HashSet<>();
+            Map<Guid, List<Guid>> groupIdsByVmId =
+                    maxMigrations > 1 ? getAffinityGroupIdsByVmId(cluster) : Collections.emptyMap();
+            Iterator<VM> candidates = rulesEnforcer.chooseVmsToMigrate(cluster);
+            while (candidates != null && migrations < maxMigrations && candidates.hasNext()) {
+                VM candidate = candidates.next();
+                if (migratedVmIds.contains(candidate.getId())) {
+                    continue;
+                }
+
+                List<Guid> groupIds = groupIdsByVmId.getOrDefault(candidate.getId(), Collections.emptyList());
+                if (groupIds.stream().anyMatch(migratedGroupIds::contains)) {
+                    log.debug("VM '{}' shares an affinity group with a VM that is being migrated, skipping it",
+                            candidate.getName());
+                    continue;
+                }
 
-            // Migrate 1 VM from each cluster
-            for (Iterator<VM> candidates : vmCandidatesPerCluster) {
-                while (candidates.hasNext()) {
-                    VM vm = candidates.next();
-                    if (migrateVM(vm)) {
-                        break;
+                if (migrateVM(candidate)) {
+                    migrations++;
+                    migratedVmIds.add(candidate.getId());
+                    migratedGroupIds.addAll(groupIds);
+                    if (migrations < maxMigrations) {
+                        candidates = rulesEnforcer.chooseVmsToMigrate(cluster);
                     }
                 }
             }
-
         } catch (Throwable t) {
-            log.error("Exception in refreshing affinity rules: {}", ExceptionUtils.getRootCauseMessage(t));
+            log.error("Exception in enforcing affinity rules of cluster '{}': {}",
+                    cluster.getName(),
+                    ExceptionUtils.getRootCauseMessage(t));
             log.debug("Exception", t);
         }
+        return migrations;
+    }
+
+    private Map<Guid, List<Guid>> getAffinityGroupIdsByVmId(Cluster cluster) {
+        Map<Guid, List<Guid>> groupIdsByVmId = new HashMap<>();
+        for (AffinityGroup group : affinityGroupDao.getAllAffinityGroupsWithFlatLabelsByClusterId(cluster.getId())) {
+            for (Guid vmId : group.getVmIds()) {
+                groupIdsByVmId.computeIfAbsent(vmId, id -> new ArrayList<>()).add(group.getId());
+            }
+        }
+        return groupIdsByVmId;
     }
 
     protected boolean migrateVM(final VM vmToMigrate) {
@@ -1322,7 +1322,7 @@ public class SchedulingManager implements BackendService {
         return logable;
     }
 
-    private void performLoadBalancing() {
+    void performLoadBalancing() {
         try {
             performLoadBalancingImpl();
         } catch (Throwable t) {
@@ -1333,6 +1333,7 @@ public class SchedulingManager implements BackendService {
 
     private void performLoadBalancingImpl() {
         log.debug("Load Balancer timer entered.");
+        int maxMigrations = Config.<Integer> getValue(ConfigValues.VdsLoadBalancingMaxMigrationsPerCycle);
         List<Cluster> clusters = clusterDao.getAll();
         for (Cluster cluster : clusters) {
             ClusterPolicy policy = policyMap.get(cluster.getClusterPolicyId());
@@ -1347,20 +1348,43 @@ public class SchedulingManager implements BackendService {
                 }
             }
 
-            for (BalanceResult balanceResult: balanceResults) {
-                if (!balanceResult.isValid()) {
-                    continue;
-                }
+            migrateBalanceResults(cluster, balanceResults, maxMigrations);
+        }
+    }
 
-                boolean migrated = migrationHandler.migrateVM(balanceResult.getCandidateHosts(),
-                        balanceResult.getVmToMigrate(),
-                        MessageBundler.getMessage(AuditLogType.MIGRATION_REASON_LOAD_BALANCING));
+    /**
+     * Migrates the VMs of the balance results, in their order, until the given number of migrations succeeded.
+     * Only one VM is migrated from each source host, as its utilization changes once the migration completes and is
+     * re-evaluated in the next interval. The destinations are chosen by scheduling each VM, which takes the pending
+     * resources of the previous migrations into account.
+     */
+    void migrateBalanceResults(Cluster cluster, List<BalanceResult> balanceResults, int maxMigrations) {
+        Set<Guid> relievedHosts = new HashSet<>();
+        int migrations = 0;
+        for (BalanceResult balanceResult: balanceResults) {
+            if (migrations >= maxMigrations) {
+                break;
+            }
 
-                if (migrated) {
-                    break;
+            if (!balanceResult.isValid() || relievedHosts.contains(balanceResult.getSourceHost())) {
+                continue;
+            }
+
+            boolean migrated = migrationHandler.migrateVM(balanceResult.getCandidateHosts(),
+                    balanceResult.getVmToMigrate(),
+                    MessageBundler.getMessage(AuditLogType.MIGRATION_REASON_LOAD_BALANCING));
+
+            if (migrated) {
+                migrations++;
+                if (balanceResult.getSourceHost() != null) {
+                    relievedHosts.add(balanceResult.getSourceHost());
                 }
             }
         }
+
+        if (migrations > 0) {
+            log.debug("Load balancing migrated {} VMs in cluster '{}'", migrations, cluster.getName());
+        }
     }
 
     private List<BalanceResult> internalRunBalance(PolicyUnitImpl policyUnit,
@@ -9,12 +9,18 @@ import org.ovirt.engine.core.compat.Guid;
 public class BalanceResult extends SchedulerResult {
     private List<Guid> candidateHosts = new ArrayList<>();
     private Guid vmToMigrate = null;
+    private Guid sourceHost = null;
 
     public BalanceResult(Guid vmToMigrate, List<Guid> candidateHosts) {
         this.vmToMigrate = vmToMigrate;
         this.candidateHosts = candidateHosts;
     }
 
+    public BalanceResult(Guid vmToMigrate, Guid sourceHost, List<Guid> candidateHosts) {
+        this(vmToMigrate, candidateHosts);
+        this.sourceHost = sourceHost;
+    }
+
     public BalanceResult() {
     }
 
@@ -34,6 +40,13 @@ public class BalanceResult extends SchedulerResult {
         return vmToMigrate;
     }
 
+    /**
+     * @return the host the VM to migrate runs on, or {@code null} if it is not known (e.g. external balancers)
+     */
+    public Guid getSourceHost() {
+        return sourceHost;
+    }
+
     public boolean isValid() {
         return vmToMigrate != null;
     }
@@ -76,6 +76,7 @@ public class FindVmAndDestinations {
 
                     results.add(new BalanceResult(
                             vm.getId(),
+                            sourceHost.getId(),
                             validDestinationHosts.stream()
                                     .map(VDS::getId)
                                     .collect(Collectors.toList())
@@ -1,8 +1,11 @@
 package org.ovirt.engine.core.bll.storage.ovfstore;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
@@ -13,6 +16,9 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
 
 import javax.enterprise.inject.Instance;
 import javax.enterprise.inject.Typed;
@@ -70,6 +76,7 @@ import org.ovirt.engine.core.dao.VmStaticDao;
 import org.ovirt.engine.core.utils.JsonHelper;
 import org.ovirt.engine.core.utils.archivers.tar.InMemoryTar;
 import org.ovirt.engine.core.utils.ovf.OvfInfoFileConstants;
+import org.ovirt.engine.core.utils.threadpool.ThreadPoolUtil;
 
 @NonTransactiveCommandAttribute
 public class ProcessOvfUpdateForStorageDomainCommand<T extends ProcessOvfUpdateParameters> extends StorageDomainCommandBase<T> implements SerialChildExecutingCommand {
@@ -227,36 +234,85 @@ public class ProcessOvfUpdateForStorageDomainCommand<T extends ProcessOvfUpdateP
         }
     }
 
-    private byte[] buildOvfInfoFileByteArray(List<Guid> vmAndTemplatesIds) {
-        ByteArrayOutputStream bufferedOutputStream = new ByteArrayOutputStream();
+    /**
+     * Writes the OVF store archive of the given entities to a temporary file, so it is never held in memory as a
+     * whole. The caller is responsible for deleting the file.
+     */
+    private Path buildOvfInfoFile(List<Guid> vmAndTemplatesIds) {
+        long startTime = System.currentTimeMillis();
         Set<Guid> processedIds = new HashSet<>();
+        Path ovfInfoFile = null;
+        Future<List<Pair<Guid, String>>> nextOvfs = null;
 
-        try (InMemoryTar inMemoryTar = new InMemoryTar(bufferedOutputStream)) {
-            inMemoryTar.addTarEntry(generateInfoFileData().getBytes(),
-                    OvfInfoFileConstants.InfoFileName);
-            Map<String, Object> metaDataForEntities = generateMetaDataFile(vmAndTemplatesIds);
-            int i = 0;
-            while (i < vmAndTemplatesIds.size()) {
-                int size =
-                        Math.min(StorageConstants.OVF_MAX_ITEMS_PER_SQL_STATEMENT, vmAndTemplatesIds.size() - i);
-                List<Guid> idsToProcess = vmAndTemplatesIds.subList(i, i + size);
-                i += size;
-
-                List<Pair<Guid, String>> ovfs = vmAndTemplatesGenerationsDao.loadOvfDataForIds(idsToProcess);
-                if (!ovfs.isEmpty()) {
-                    processedIds.addAll(buildFilesForOvfs(ovfs, inMemoryTar));
+        try {
+            ovfInfoFile = Files.createTempFile("ovf-store-", ".tar");
+            try (InMemoryTar inMemoryTar =
+                    new InMemoryTar(new BufferedOutputStream(Files.newOutputStream(ovfInfoFile)))) {
+                inMemoryTar.addTarEntry(generateInfoFileData().getBytes(),
+                        OvfInfoFileConstants.InfoFileName);
+                Map<String, Object> metaDataForEntities = generateMetaDataFile(vmAndTemplatesIds);
+                // the OVFs of the next batch are loaded while the current batch is added to the archive
+                nextOvfs = loadOvfDataForBatch(vmAndTemplatesIds, 0);
+                int i = 0;
+                while (i < vmAndTemplatesIds.size()) {
+                    i += StorageConstants.OVF_MAX_ITEMS_PER_SQL_STATEMENT;
+                    List<Pair<Guid, String>> ovfs = nextOvfs.get();
+                    nextOvfs = loadOvfDataForBatch(vmAndTemplatesIds, i);
+                    if (!ovfs.isEmpty()) {
+                        processedIds.addAll(buildFilesForOvfs(ovfs, inMemoryTar));
+                    }
                 }
+
+                List<Pair<Guid, String>> unprocessedOvfData = retrieveUnprocessedUnregisteredOvfData(processedIds, metaDataForEntities);
+                inMemoryTar.addTarEntry(buildJson(metaDataForEntities, true).getBytes(), OvfInfoFileConstants.MetaDataFileName);
+                processedIds.addAll(buildFilesForOvfs(unprocessedOvfData, inMemoryTar));
             }
 
-            List<Pair<Guid, String>> unprocessedOvfData = retrieveUnprocessedUnregisteredOvfData(processedIds, metaDataForEntities);
-            inMemoryTar.addTarEntry(buildJson(metaDataForEntities, true).getBytes(), OvfInfoFileConstants.MetaDataFileName);
-            buildFilesForOvfs(unprocessedOvfData, inMemoryTar);
+            log.info("Built the OVF store archive of domain '{}' with {} OVFs: {} bytes in {} ms",
+                    getParameters().getStorageDomainId(),
+                    processedIds.size(),
+                    Files.size(ovfInfoFile),
+                    System.currentTimeMillis() - startTime);
+            return ovfInfoFile;
         } catch (Exception e) {
-            throw new RuntimeException(String.format("Exception while building in memory tar of the OVFs of domain %s",
+            deleteOvfInfoFile(ovfInfoFile);
+            throw new RuntimeException(String.format("Exception while building tar of the OVFs of domain %s",
                     getParameters().getStorageDomainId()), e);
+        } finally {
+            // the prefetch of a batch is left running only when the archive failed to build
+            if (nextOvfs != null) {
+                nextOvfs.cancel(true);
+            }
         }
+    }
 
-        return bufferedOutputStream.toByteArray();
+    private void deleteOvfInfoFile(Path ovfInfoFile) {
+        if (ovfInfoFile == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(ovfInfoFile);
+        } catch (IOException e) {
+            log.warn("Failed to delete the OVF store archive '{}': {}", ovfInfoFile, e.getMessage());
+            log.debug("Exception", e);
+        }
+    }
+
+    /**
+     * Starts loading the OVFs of the batch of the given entities that starts at the given index.
+     *
+     * @return the future OVFs of the batch, empty if the index is beyond the given entities
+     */
+    private Future<List<Pair<Guid, String>>> loadOvfDataForBatch(List<Guid> vmAndTemplatesIds, int from) {
+        if (from >= vmAndTemplatesIds.size()) {
+            return CompletableFuture.completedFuture(Collections.emptyList());
+        }
+        List<Guid> idsToProcess = vmAndTemplatesIds.subList(from,
+                Math.min(from + StorageConstants.OVF_MAX_ITEMS_PER_SQL_STATEMENT, vmAndTemplatesIds.size()));
+        FutureTask<List<Pair<Guid, String>>> ovfs =
+                new FutureTask<>(() -> vmAndTemplatesGenerationsDao.loadOvfDataForIds(idsToProcess));
+        ThreadPoolUtil.execute(ovfs);
+        return ovfs;
     }
 
     private List<Pair<Guid, String>> retrieveUnprocessedUnregisteredOvfData(Set<Guid> processedIds,
@@ -291,8 +347,15 @@ public class ProcessOvfUpdateForStorageDomainCommand<T extends ProcessOvfUpdateP
 
         vmAndTemplatesIds.addAll(vmStaticDao.getVmAndTemplatesIdsWithoutAttachedImageDisks(getParameters().getStoragePoolId(), false));
 
-        byte[] bytes = buildOvfInfoFileByteArray(vmAndTemplatesIds);
+        Path ovfInfoFile = buildOvfInfoFile(vmAndTemplatesIds);
+        try {
+            return updateOvfStores(ovfInfoFile, vmAndTemplatesIds);
+        } finally {
+            deleteOvfInfoFile(ovfInfoFile);
+        }
+    }
 
+    private boolean updateOvfStores(Path ovfInfoFile, List<Guid> vmAndTemplatesIds) {
         Pair<StorageDomainOvfInfo, DiskImage> lastOvfStoreForUpdate = domainOvfStoresInfoForUpdate.getLast();
 
         // means that the last ovf store was never updated, if it was - we don't want to update
@@ -311,7 +374,7 @@ public class ProcessOvfUpdateForStorageDomainCommand<T extends ProcessOvfUpdateP
 
         for (Pair<StorageDomainOvfInfo, DiskImage> pair : domainOvfStoresInfoForUpdate) {
             shouldUpdateLastOvfStore |=
-                    performOvfUpdateForDomain(bytes,
+                    performOvfUpdateForDomain(ovfInfoFile,
                             pair.getFirst(),
                             pair.getSecond(),
                             vmAndTemplatesIds);
@@ -320,7 +383,7 @@ public class ProcessOvfUpdateForStorageDomainCommand<T extends ProcessOvfUpdateP
         // if we successfully updated any ovf store, we can attempt to also update the one we kept for best effort
         // backup (if we did)
         if (shouldUpdateLastOvfStore && lastOvfStoreForUpdate != null) {
-            performOvfUpdateForDomain(bytes,
+            performOvfUpdateForDomain(ovfInfoFile,
                     lastOvfStoreForUpdate.getFirst(),
                     lastOvfStoreForUpdate.getSecond(),
                     vmAndTemplatesIds);
@@ -354,7 +417,7 @@ public class ProcessOvfUpdateForStorageDomainCommand<T extends ProcessOvfUpdateP
         runVdsCommand(VDSCommandType.SetVolumeDescription, vdsCommandParameters);
     }
 
-    private boolean performOvfUpdateForDomain(byte[] ovfData,
+    private boolean performOvfUpdateForDomain(Path ovfInfoFile,
             StorageDomainOvfInfo storageDomainOvfInfo,
             DiskImage ovfDisk,
             List<Guid> vmAndTemplatesIds) {
@@ -365,7 +428,7 @@ public class ProcessOvfUpdateForStorageDomainCommand<T extends ProcessOvfUpdateP
 
         storageDomainOvfInfo.setStoredOvfIds(null);
 
-        try {
+        try (InputStream ovfData = new BufferedInputStream(Files.newInputStream(ovfInfoFile))) {
             setOvfVolumeDescription(storagePoolId,
                     storageDomainId,
                     diskId,
@@ -374,13 +437,10 @@ public class ProcessOvfUpdateForStorageDomainCommand<T extends ProcessOvfUpdateP
 
             storageDomainOvfInfoDao.update(storageDomainOvfInfo);
 
-            ByteArrayInputStream byteArrayInputStream =
-                    new ByteArrayInputStream(ovfData);
-
-            Long size = Long.valueOf(ovfData.length);
+            Long size = Files.size(ovfInfoFile);
             UploadStreamParameters uploadStreamParameters =
                     new UploadStreamParameters(storagePoolId, storageDomainId,
-                            diskId, volumeId, byteArrayInputStream,
+                            diskId, volumeId, ovfData,
                             size);
 
             uploadStreamParameters.setParentCommand(getActionType());
@@ -408,7 +468,7 @@ public class ProcessOvfUpdateForStorageDomainCommand<T extends ProcessOvfUpdateP
                 imageDao.update(ovfDisk.getImage());
                 return true;
             }
-        } catch (EngineException e) {
+        } catch (EngineException | IOException e) {
             log.warn("failed to update domain '{}' ovf store disk '{}'", storageDomainId, diskId);
         }
 
@@ -9,6 +9,8 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.inject.Inject;
 
@@ -59,6 +61,7 @@ import org.ovirt.engine.core.dao.VmDao;
 import org.ovirt.engine.core.dao.VmStaticDao;
 import org.ovirt.engine.core.dao.VmTemplateDao;
 import org.ovirt.engine.core.dao.scheduling.AffinityGroupDao;
+import org.ovirt.engine.core.utils.threadpool.ThreadPoolUtil;
 
 @NonTransactiveCommandAttribute
 @InternalCommandAttribute
@@ -234,30 +237,43 @@ public class ProcessOvfUpdateForStoragePoolCommand <T extends ProcessOvfUpdatePa
      * Creates and returns a map containing valid templates metadata
      */
     protected Map<Guid, KeyValuePairCompat<String, List<Guid>>> populateTemplatesMetadataForOvfUpdate(List<Guid> idsToProcess) {
-        Map<Guid, KeyValuePairCompat<String, List<Guid>>> vmsAndTemplateMetadata = new HashMap<>();
+        Map<Guid, KeyValuePairCompat<String, List<Guid>>> vmsAndTemplateMetadata = new ConcurrentHashMap<>();
         List<VmTemplate> templates = vmTemplateDao.getVmTemplatesByIds(idsToProcess);
 
+        List<Callable<ProcessedOvf>> tasks = new ArrayList<>();
         for (VmTemplate template : templates) {
-            if (VmTemplateStatus.Locked != template.getStatus()) {
-                updateTemplateDisksFromDb(template);
-                boolean verifyDisksNotLocked = verifyImagesStatus(template.getDiskList());
-                if (verifyDisksNotLocked) {
-                    ovfUpdateProcessHelper.loadTemplateData(template);
-                    Long currentDbGeneration = vmStaticDao.getDbGeneration(template.getId());
-                    // currentDbGeneration can be null in case that the template was deleted during the run of OvfDataUpdater.
-                    if (currentDbGeneration != null && template.getDbGeneration() == currentDbGeneration) {
-                        proccessedOvfConfigurationsInfo.add(ovfUpdateProcessHelper.buildMetadataDictionaryForTemplate(template, vmsAndTemplateMetadata));
-                        proccessedIdsInfo.add(template.getId());
-                        proccessedOvfGenerationsInfo.add(template.getDbGeneration());
-                        proccessDisksDomains(template.getDiskList());
-                    }
-                }
-            }
+            tasks.add(() -> buildTemplateOvf(template, vmsAndTemplateMetadata));
         }
+        addProcessedOvfs(tasks);
 
         return vmsAndTemplateMetadata;
     }
 
+    /**
+     * Builds the OVF of the given template and adds its metadata to the given map, returns null if the template
+     * should not be updated
+     */
+    private ProcessedOvf buildTemplateOvf(VmTemplate template,
+            Map<Guid, KeyValuePairCompat<String, List<Guid>>> vmsAndTemplateMetadata) {
+        if (VmTemplateStatus.Locked == template.getStatus()) {
+            return null;
+        }
+        updateTemplateDisksFromDb(template);
+        if (!verifyImagesStatus(template.getDiskList())) {
+            return null;
+        }
+        ovfUpdateProcessHelper.loadTemplateData(template);
+        Long currentDbGeneration = vmStaticDao.getDbGeneration(template.getId());
+        // currentDbGeneration can be null in case that the template was deleted during the run of OvfDataUpdater.
+        if (currentDbGeneration == null || template.getDbGeneration() != currentDbGeneration) {
+            return null;
+        }
+        return new ProcessedOvf(template.getId(),
+                template.getDbGeneration(),
+                ovfUpdateProcessHelper.buildMetadataDictionaryForTemplate(template, vmsAndTemplateMetadata),
+                template.getDiskList());
+    }
+
     protected void updateTemplateDisksFromDb(VmTemplate template) {
         vmTemplateHandler.updateDisksFromDb(template);
     }
@@ -320,57 +336,91 @@ public class ProcessOvfUpdateForStoragePoolCommand <T extends ProcessOvfUpdatePa
      * Create and returns map contains valid vms metadata
      */
     protected Map<Guid, KeyValuePairCompat<String, List<Guid>>> populateVmsMetadataForOvfUpdate(List<Guid> idsToProcess) {
-        Map<Guid, KeyValuePairCompat<String, List<Guid>>> vmsAndTemplateMetadata = new HashMap<>();
+        Map<Guid, KeyValuePairCompat<String, List<Guid>>> vmsAndTemplateMetadata = new ConcurrentHashMap<>();
         List<VM> vms = vmDao.getVmsByIds(idsToProcess);
+
+        List<Callable<ProcessedOvf>> tasks = new ArrayList<>();
         for (VM vm : vms) {
-            if (VMStatus.ImageLocked != vm.getStatus()) {
-                updateVmDisksFromDb(vm);
-                if (!verifyImagesStatus(vm.getDiskList())) {
-                    continue;
-                }
-                ArrayList<DiskImage> vmImages = ovfUpdateProcessHelper.getVmImagesFromDb(vm);
-                if (!verifyImagesStatus(vmImages)) {
-                    continue;
-                }
-                vm.setSnapshots(snapshotDao.getAllWithConfiguration(vm.getId()));
-                if (!verifySnapshotsStatus(vm.getSnapshots())) {
-                    continue;
-                }
+            tasks.add(() -> buildVmOvf(vm, vmsAndTemplateMetadata));
+        }
+        addProcessedOvfs(tasks);
 
-                ovfUpdateProcessHelper.loadVmData(vm);
-                Long currentDbGeneration = vmStaticDao.getDbGeneration(vm.getId());
-                if (currentDbGeneration == null) {
-                    log.warn("currentDbGeneration of VM (name: '{}', id: '{}') is null, probably because the VM was deleted during the run of OvfDataUpdater.",
-                            vm.getName(),
-                            vm.getId());
-                    continue;
-                }
-                if (vm.getStaticData().getDbGeneration() == currentDbGeneration) {
-                    List<LunDisk> lunDisks = DisksFilter.filterLunDisks(vm.getDiskMap().values());
-                    for (LunDisk lun : lunDisks) {
-                        lun.getLun().setLunConnections(storageServerConnectionDao.getAllForLun(lun.getLun().getId()));
-                    }
-
-                    List<AffinityGroup> affinityGroups = affinityGroupDao.getAllAffinityGroupsByVmId(vm.getId());
-                    List<Label> affinityLabels = labelDao.getAllByEntityIds(Collections.singletonList(vm.getId()));
-                    Set<DbUser> dbUsers = new HashSet<>(dbUserDao.getAllForVm(vm.getId()));
-                    FullEntityOvfData fullEntityOvfData = new FullEntityOvfData(vm);
-                    fullEntityOvfData.setDiskImages(vmImages);
-                    fullEntityOvfData.setLunDisks(lunDisks);
-                    fullEntityOvfData.setAffinityGroups(affinityGroups);
-                    fullEntityOvfData.setAffinityLabels(affinityLabels);
-                    fullEntityOvfData.setDbUsers(dbUsers);
-                    ovfHelper.populateUserToRoles(fullEntityOvfData, vm.getId());
-                    proccessedOvfConfigurationsInfo.add(ovfUpdateProcessHelper.buildMetadataDictionaryForVm(vm,
-                            vmsAndTemplateMetadata,
-                            fullEntityOvfData));
-                    proccessedIdsInfo.add(vm.getId());
-                    proccessedOvfGenerationsInfo.add(vm.getStaticData().getDbGeneration());
-                    proccessDisksDomains(vm.getDiskList());
-                }
+        return vmsAndTemplateMetadata;
+    }
+
+    /**
+     * Builds the OVF of the given vm and adds its metadata to the given map, returns null if the vm should not be
+     * updated
+     */
+    private ProcessedOvf buildVmOvf(VM vm, Map<Guid, KeyValuePairCompat<String, List<Guid>>> vmsAndTemplateMetadata) {
+        if (VMStatus.ImageLocked == vm.getStatus()) {
+            return null;
+        }
+        updateVmDisksFromDb(vm);
+        if (!verifyImagesStatus(vm.getDiskList())) {
+            return null;
+        }
+        ArrayList<DiskImage> vmImages = ovfUpdateProcessHelper.getVmImagesFromDb(vm);
+        if (!verifyImagesStatus(vmImages)) {
+            return null;
+        }
+        vm.setSnapshots(snapshotDao.getAllWithConfiguration(vm.getId()));
+        if (!verifySnapshotsStatus(vm.getSnapshots())) {
+            return null;
+        }
+
+        ovfUpdateProcessHelper.loadVmData(vm);
+        Long currentDbGeneration = vmStaticDao.getDbGeneration(vm.getId());
+        if (currentDbGeneration == null) {
+            log.warn("currentDbGeneration of VM (name: '{}', id: '{}') is null, probably because the VM was deleted during the run of OvfDataUpdater.",
+                    vm.getName(),
+                    vm.getId());
+            return null;
+        }
+        if (vm.getStaticData().getDbGeneration() != currentDbGeneration) {
+            return null;
+        }
+
+        List<LunDisk> lunDisks = DisksFilter.filterLunDisks(vm.getDiskMap().values());
+        for (LunDisk lun : lunDisks) {
+            lun.getLun().setLunConnections(storageServerConnectionDao.getAllForLun(lun.getLun().getId()));
+        }
+
+        List<AffinityGroup> affinityGroups = affinityGroupDao.getAllAffinityGroupsByVmId(vm.getId());
+        List<Label> affinityLabels = labelDao.getAllByEntityIds(Collections.singletonList(vm.getId()));
+        Set<DbUser> dbUsers = new HashSet<>(dbUserDao.getAllForVm(vm.getId()));
+        FullEntityOvfData fullEntityOvfData = new FullEntityOvfData(vm);
+        fullEntityOvfData.setDiskImages(vmImages);
+        fullEntityOvfData.setLunDisks(lunDisks);
+        fullEntityOvfData.setAffinityGroups(affinityGroups);
+        fullEntityOvfData.setAffinityLabels(affinityLabels);
+        fullEntityOvfData.setDbUsers(dbUsers);
+        ovfHelper.populateUserToRoles(fullEntityOvfData, vm.getId());
+        return new ProcessedOvf(vm.getId(),
+                vm.getStaticData().getDbGeneration(),
+                ovfUpdateProcessHelper.buildMetadataDictionaryForVm(vm, vmsAndTemplateMetadata, fullEntityOvfData),
+                vm.getDiskList());
+    }
+
+    /**
+     * Builds the OVFs of the given tasks, at most OvfUpdateMaxParallelEntities of them at once, and adds the built
+     * ones to the processed info lists in the order of the tasks
+     */
+    private void addProcessedOvfs(List<Callable<ProcessedOvf>> tasks) {
+        if (tasks.isEmpty()) {
+            return;
+        }
+
+        List<ProcessedOvf> processedOvfs =
+                ThreadPoolUtil.invokeAll(tasks, Config.<Integer> getValue(ConfigValues.OvfUpdateMaxParallelEntities));
+        for (ProcessedOvf processedOvf : processedOvfs) {
+            if (processedOvf != null) {
+                proccessedOvfConfigurationsInfo.add(processedOvf.ovfConfiguration);
+                proccessedIdsInfo.add(processedOvf.id);
+                proccessedOvfGenerationsInfo.add(processedOvf.ovfGeneration);
+                proccessDisksDomains(processedOvf.disks);
             }
         }
-        return vmsAndTemplateMetadata;
     }
 
     protected void proccessDisksDomains(List<DiskImage> disks) {
@@ -393,6 +443,20 @@ public class ProcessOvfUpdateForStoragePoolCommand <T extends ProcessOvfUpdatePa
         proccessedOvfConfigurationsInfo = new LinkedList<>();
     }
 
+    private static class ProcessedOvf {
+        private final Guid id;
+        private final Long ovfGeneration;
+        private final String ovfConfiguration;
+        private final List<DiskImage> disks;
+
+        private ProcessedOvf(Guid id, Long ovfGeneration, String ovfConfiguration, List<DiskImage> disks) {
+            this.id = id;
+            this.ovfGeneration = ovfGeneration;
+            this.ovfConfiguration = ovfConfiguration;
+            this.disks = disks;
+        }
+    }
+
     @Override
     protected LockProperties applyLockProperties(LockProperties lockProperties) {
         return lockProperties.withScope(LockProperties.Scope.Execution).withWaitForever();
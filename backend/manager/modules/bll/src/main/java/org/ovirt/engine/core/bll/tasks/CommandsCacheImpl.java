@@ -1,11 +1,15 @@
 package org.ovirt.engine.core.bll.tasks;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -19,10 +23,19 @@ import org.ovirt.engine.core.compat.Guid;
 import org.ovirt.engine.core.dao.CommandEntityDao;
 import org.ovirt.engine.core.utils.transaction.TransactionSupport;
 
+/**
+ * Caches the persisted commands and indexes them by their root command and by their associated entities.
+ * The commands are loaded from the database without their parameters and return values, which are fetched
+ * only when the command is accessed for the first time.
+ */
 @Singleton
 public class CommandsCacheImpl implements CommandsCache {
 
-    private Map<Guid, CommandEntity> commandMap;
+    private final Map<Guid, CommandEntity> commandMap;
+    private final Map<Guid, Set<Guid>> commandIdsByRootCommandId;
+    private final Map<Guid, Set<CommandAssociatedEntity>> associatedEntitiesByCommandId;
+    private final Map<Guid, Set<Guid>> commandIdsByEntityId;
+    private final Set<Guid> commandsWithoutPayload;
     private volatile boolean cacheInitialized;
     private Object LOCK = new Object();
 
@@ -30,23 +43,100 @@ public class CommandsCacheImpl implements CommandsCache {
     private CommandEntityDao commandEntityDao;
 
     public CommandsCacheImpl() {
-        commandMap = new HashMap<>();
+        commandMap = new ConcurrentHashMap<>();
+        commandIdsByRootCommandId = new ConcurrentHashMap<>();
+        associatedEntitiesByCommandId = new ConcurrentHashMap<>();
+        commandIdsByEntityId = new ConcurrentHashMap<>();
+        commandsWithoutPayload = ConcurrentHashMap.newKeySet();
     }
 
     private void initializeCache() {
         if (!cacheInitialized) {
             synchronized(LOCK) {
                 if (!cacheInitialized) {
-                    List<CommandEntity> cmdEntities = commandEntityDao.getAll();
+                    List<CommandEntity> cmdEntities = commandEntityDao.getAllHeaders();
                     for (CommandEntity cmdEntity : cmdEntities) {
+                        commandsWithoutPayload.add(cmdEntity.getId());
                         commandMap.put(cmdEntity.getId(), cmdEntity);
+                        indexByRootCommand(cmdEntity);
                     }
+                    indexAssociatedEntities(commandEntityDao.getAllCommandAssociatedEntities());
                     cacheInitialized = true;
                 }
             }
         }
     }
 
+    private CommandEntity withPayload(CommandEntity cmdEntity) {
+        if (cmdEntity == null || !commandsWithoutPayload.contains(cmdEntity.getId())) {
+            return cmdEntity;
+        }
+
+        synchronized(cmdEntity) {
+            if (commandsWithoutPayload.contains(cmdEntity.getId())) {
+                CommandEntity persistedCmdEntity = commandEntityDao.get(cmdEntity.getId());
+                if (persistedCmdEntity != null) {
+                    cmdEntity.setCommandParameters(persistedCmdEntity.getCommandParameters());
+                    cmdEntity.setReturnValue(persistedCmdEntity.getReturnValue());
+                }
+                commandsWithoutPayload.remove(cmdEntity.getId());
+            }
+        }
+        return cmdEntity;
+    }
+
+    private void removeFromCache(Guid commandId) {
+        CommandEntity cmdEntity = commandMap.remove(commandId);
+        if (cmdEntity != null) {
+            unindexByRootCommand(cmdEntity);
+        }
+        commandsWithoutPayload.remove(commandId);
+        // The associated entities are removed from the database along with the command
+        unindexAssociatedEntities(commandId);
+    }
+
+    private void indexByRootCommand(CommandEntity cmdEntity) {
+        if (!Guid.isNullOrEmpty(cmdEntity.getRootCommandId())) {
+            commandIdsByRootCommandId
+                    .computeIfAbsent(cmdEntity.getRootCommandId(), id -> ConcurrentHashMap.newKeySet())
+                    .add(cmdEntity.getId());
+        }
+    }
+
+    private void unindexByRootCommand(CommandEntity cmdEntity) {
+        if (!Guid.isNullOrEmpty(cmdEntity.getRootCommandId())) {
+            commandIdsByRootCommandId.computeIfPresent(cmdEntity.getRootCommandId(), (id, cmdIds) -> {
+                cmdIds.remove(cmdEntity.getId());
+                return cmdIds.isEmpty() ? null : cmdIds;
+            });
+        }
+    }
+
+    private void indexAssociatedEntities(Collection<CommandAssociatedEntity> cmdAssociatedEntities) {
+        for (CommandAssociatedEntity entity : cmdAssociatedEntities) {
+            associatedEntitiesByCommandId
+                    .computeIfAbsent(entity.getCommandId(), id -> ConcurrentHashMap.newKeySet())
+                    .add(entity);
+            commandIdsByEntityId
+                    .computeIfAbsent(entity.getEntityId(), id -> ConcurrentHashMap.newKeySet())
+                    .add(entity.getCommandId());
+        }
+    }
+
+    private void unindexAssociatedEntities(Guid commandId) {
+        Set<CommandAssociatedEntity> entities = associatedEntitiesByCommandId.remove(commandId);
+        if (entities == null) {
+            return;
+        }
+
+        for (CommandAssociatedEntity entity : entities) {
+            commandIdsByEntityId.computeIfPresent(entity.getEntityId(), (id, cmdIds) -> {
+                cmdIds.remove(commandId);
+                return cmdIds.isEmpty() ? null : cmdIds;
+            });
+        }
+    }
+
     @Override
     public Set<Guid> keySet() {
         initializeCache();
@@ -56,26 +146,31 @@ public class CommandsCacheImpl implements CommandsCache {
     @Override
     public CommandEntity get(Guid commandId) {
         initializeCache();
-        return commandMap.get(commandId);
+        return withPayload(commandMap.get(commandId));
     }
 
     @Override
     public void remove(final Guid commandId) {
-        commandMap.remove(commandId);
+        removeFromCache(commandId);
         commandEntityDao.remove(commandId);
     }
 
     @Override
     public void put(final CommandEntity cmdEntity) {
-        commandMap.put(cmdEntity.getId(), cmdEntity);
+        commandsWithoutPayload.remove(cmdEntity.getId());
+        CommandEntity previousCmdEntity = commandMap.put(cmdEntity.getId(), cmdEntity);
+        if (previousCmdEntity != null
+                && !Objects.equals(previousCmdEntity.getRootCommandId(), cmdEntity.getRootCommandId())) {
+            unindexByRootCommand(previousCmdEntity);
+        }
+        indexByRootCommand(cmdEntity);
         saveOrUpdateWithoutTransaction(cmdEntity);
     }
 
     @Override
     public void removeAllCommandsBeforeDate(DateTime cutoff) {
-        commandEntityDao.removeAllBeforeDate(cutoff);
-        cacheInitialized = false;
         initializeCache();
+        commandEntityDao.removeAllBeforeDate(cutoff).forEach(this::removeFromCache);
     }
 
     @Override
@@ -131,20 +226,30 @@ public class CommandsCacheImpl implements CommandsCache {
             commandEntityDao.insertCommandAssociatedEntities(cmdAssociatedEntities);
             return null;
         });
+        initializeCache();
+        indexAssociatedEntities(cmdAssociatedEntities);
     }
 
     @Override
     public List<CommandAssociatedEntity> getCommandAssociatedEntities(Guid cmdId) {
-        return commandEntityDao.getAllCommandAssociatedEntities(cmdId);
+        initializeCache();
+        return new ArrayList<>(associatedEntitiesByCommandId.getOrDefault(cmdId, Collections.emptySet()));
     }
 
     @Override
     public List<Guid> getCommandIdsByEntityId(Guid entityId) {
-        return commandEntityDao.getCommandIdsByEntity(entityId);
+        initializeCache();
+        return new ArrayList<>(commandIdsByEntityId.getOrDefault(entityId, Collections.emptySet()));
     }
 
     @Override
     public List<CommandEntity> getChildCmdsByParentCmdId(Guid cmdId) {
-        return commandEntityDao.getCmdEntitiesByParentCmdId(cmdId);
+        initializeCache();
+        return commandIdsByRootCommandId.getOrDefault(cmdId, Collections.emptySet())
+                .stream()
+                .map(commandMap::get)
+                .filter(Objects::nonNull)
+                .map(this::withPayload)
+                .collect(Collectors.toList());
     }
 }
@@ -0,0 +1,134 @@
+package org.ovirt.engine.core.bll;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.ovirt.engine.core.bll.AutoStartVmsRunner.AutoStartVmToRestart;
+import org.ovirt.engine.core.bll.interfaces.BackendInternal;
+import org.ovirt.engine.core.common.action.ActionReturnValue;
+import org.ovirt.engine.core.common.action.ActionType;
+import org.ovirt.engine.core.common.action.RunVmParams;
+import org.ovirt.engine.core.common.businessentities.VM;
+import org.ovirt.engine.core.common.businessentities.VMStatus;
+import org.ovirt.engine.core.common.config.ConfigValues;
+import org.ovirt.engine.core.compat.Guid;
+import org.ovirt.engine.core.utils.MockConfigDescriptor;
+import org.ovirt.engine.core.utils.MockConfigExtension;
+import org.ovirt.engine.core.utils.lock.EngineLock;
+import org.ovirt.engine.core.utils.lock.LockManager;
+import org.ovirt.engine.core.utils.threadpool.ThreadPoolUtil;
+
+@ExtendWith({ MockConfigExtension.class, MockitoExtension.class })
+public class AutoStartVmsRunnerTest {
+
+    private static final int MAX_PARALLEL_STARTS = 2;
+
+    @Mock
+    private BackendInternal backend;
+    @Mock
+    private LockManager lockManager;
+
+    @InjectMocks
+    private HaAutoStartVmsRunner autoStartVmsRunner;
+
+    private ExecutorService origExecutorService;
+    private ExecutorService executorService;
+
+    public static Stream<MockConfigDescriptor<?>> mockConfiguration() {
+        return Stream.of(
+                MockConfigDescriptor.of(ConfigValues.AutoStartVmsRunnerMaxParallelStarts, MAX_PARALLEL_STARTS),
+                MockConfigDescriptor.of(ConfigValues.RetryToRunAutoStartVmShortIntervalInSeconds, 1),
+                MockConfigDescriptor.of(ConfigValues.RetryToRunAutoStartVmLongIntervalInSeconds, 1),
+                MockConfigDescriptor.of(ConfigValues.NumOfTriesToRunFailedAutoStartVmInShortIntervals, 1),
+                MockConfigDescriptor.of(ConfigValues.MaxNumOfSkipsBeforeAutoStartVm, 1),
+                MockConfigDescriptor.of(ConfigValues.DelayToRunAutoStartVmIntervalInSeconds, 1));
+    }
+
+    @BeforeEach
+    public void setUp() {
+        origExecutorService = ThreadPoolUtil.getExecutorService();
+        executorService = Executors.newFixedThreadPool(MAX_PARALLEL_STARTS * 2);
+        ThreadPoolUtil.setExecutorService(executorService);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executorService.shutdownNow();
+        ThreadPoolUtil.setExecutorService(origExecutorService);
+    }
+
+    @Test
+    public void vmsStartedAtMostMaxParallelStartsAtOnce() {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        when(backend.runInternalAction(eq(ActionType.RunVm), any(), any())).thenAnswer(invocation -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            Thread.sleep(50);
+            running.decrementAndGet();
+            return runVmReturnValue();
+        });
+
+        Map<AutoStartVmToRestart, Boolean> results = autoStartVmsRunner.runVms(createVmsToRun(6));
+
+        assertThat(results).hasSize(6).doesNotContainValue(false);
+        assertThat(maxRunning.get()).isBetween(1, MAX_PARALLEL_STARTS);
+    }
+
+    @Test
+    public void failureToStartVmDoesNotAffectOtherVms() {
+        Map<AutoStartVmToRestart, EngineLock> vmsToRun = createVmsToRun(3);
+        AutoStartVmToRestart failingVm = vmsToRun.keySet().iterator().next();
+        when(backend.runInternalAction(eq(ActionType.RunVm), any(), any())).thenAnswer(invocation -> {
+            RunVmParams params = invocation.getArgument(1);
+            if (params.getVmId().equals(failingVm.getVmId())) {
+                throw new RuntimeException("failed to run VM");
+            }
+            return runVmReturnValue();
+        });
+
+        Map<AutoStartVmToRestart, Boolean> results = autoStartVmsRunner.runVms(vmsToRun);
+
+        assertThat(results).hasSize(3).containsEntry(failingVm, false);
+        assertThat(results.values()).containsOnlyOnce(false);
+        // the lock of the failing VM was already handed over to its RunVm command
+        verify(lockManager, never()).releaseLock(any());
+    }
+
+    private static Map<AutoStartVmToRestart, EngineLock> createVmsToRun(int count) {
+        Map<AutoStartVmToRestart, EngineLock> vmsToRun = new LinkedHashMap<>();
+        for (int i = 0; i < count; i++) {
+            VM vm = new VM();
+            vm.setId(Guid.newGuid());
+            vm.setName("vm" + i);
+            AutoStartVmToRestart vmToRestart = new AutoStartVmToRestart(vm.getId());
+            vmToRestart.setVm(vm);
+            vmsToRun.put(vmToRestart, new EngineLock());
+        }
+        return vmsToRun;
+    }
+
+    private static ActionReturnValue runVmReturnValue() {
+        ActionReturnValue returnValue = new ActionReturnValue();
+        returnValue.setSucceeded(true);
+        returnValue.setActionReturnValue(VMStatus.WaitForLaunch);
+        return returnValue;
+    }
+}
@@ -0,0 +1,92 @@
+package org.ovirt.engine.core.bll;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.ovirt.engine.core.common.interfaces.BackendLocal;
+import org.ovirt.engine.core.common.interfaces.SearchType;
+import org.ovirt.engine.core.common.queries.GetIfEntitiesChangedParameters;
+import org.ovirt.engine.core.common.queries.IdQueryParameters;
+import org.ovirt.engine.core.common.queries.QueryReturnValue;
+import org.ovirt.engine.core.common.queries.QueryType;
+import org.ovirt.engine.core.common.queries.VersionedQueryResult;
+import org.ovirt.engine.core.compat.Guid;
+import org.ovirt.engine.core.dal.dbbroker.auditloghandling.EntityChangeFeed;
+
+/**
+ * A test case for {@link GetIfEntitiesChangedQuery}.
+ */
+public class GetIfEntitiesChangedQueryTest
+        extends AbstractUserQueryTest<GetIfEntitiesChangedParameters, GetIfEntitiesChangedQuery<GetIfEntitiesChangedParameters>> {
+
+    @Mock
+    private EntityChangeFeed entityChangeFeed;
+
+    @Mock
+    private BackendLocal backend;
+
+    private final IdQueryParameters queryParameters = new IdQueryParameters(Guid.newGuid());
+
+    @BeforeEach
+    public void setUpParameters() {
+        when(getQueryParameters().getQueryType()).thenReturn(QueryType.GetClustersByStoragePoolId);
+        when(getQueryParameters().getQueryParameters()).thenReturn(queryParameters);
+        when(getQueryParameters().getSearchType()).thenReturn(SearchType.Cluster);
+        when(entityChangeFeed.getVersion(SearchType.Cluster)).thenReturn(2L);
+    }
+
+    @Test
+    public void queryNotRunWhenVersionUnchanged() {
+        when(getQueryParameters().getKnownVersion()).thenReturn(2L);
+
+        getQuery().executeQueryCommand();
+
+        VersionedQueryResult result = getQuery().getQueryReturnValue().getReturnValue();
+        assertFalse(result.isChanged());
+        assertEquals(2L, result.getVersion());
+        assertNull(result.getReturnValue());
+        verify(backend, never()).runQuery(any(), any());
+    }
+
+    @Test
+    public void queryRunOnBehalfOfCallerWhenVersionChanged() {
+        List<String> clusters = Collections.singletonList("cluster");
+        QueryReturnValue queryReturnValue = new QueryReturnValue();
+        queryReturnValue.setSucceeded(true);
+        queryReturnValue.setReturnValue(clusters);
+        when(getQueryParameters().getKnownVersion()).thenReturn(1L);
+        when(backend.runQuery(QueryType.GetClustersByStoragePoolId, queryParameters)).thenReturn(queryReturnValue);
+
+        getQuery().executeQueryCommand();
+
+        VersionedQueryResult result = getQuery().getQueryReturnValue().getReturnValue();
+        assertTrue(result.isChanged());
+        assertEquals(2L, result.getVersion());
+        assertEquals(clusters, result.getReturnValue());
+        assertEquals(getQueryParameters().getSessionId(), queryParameters.getSessionId());
+    }
+
+    @Test
+    public void failureOfQueryReturned() {
+        QueryReturnValue queryReturnValue = new QueryReturnValue();
+        queryReturnValue.setExceptionString("failure");
+        when(backend.runQuery(QueryType.GetClustersByStoragePoolId, queryParameters)).thenReturn(queryReturnValue);
+
+        getQuery().executeQueryCommand();
+
+        assertFalse(getQuery().getQueryReturnValue().getSucceeded());
+        assertEquals("failure", getQuery().getQueryReturnValue().getExceptionString());
+    }
+}
@@ -0,0 +1,102 @@
+package org.ovirt.engine.core.bll;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.ovirt.engine.core.bll.context.CommandContext;
+import org.ovirt.engine.core.bll.context.NoOpCompensationContext;
+import org.ovirt.engine.core.common.action.ActionType;
+import org.ovirt.engine.core.common.action.DiskProfileParameters;
+import org.ovirt.engine.core.utils.threadpool.ThreadPoolUtil;
+
+public class ParallelMultipleActionsRunnerTest extends MultipleActionsRunnerBaseTest {
+
+    private static final int MAX_PARALLEL_COMMANDS = 2;
+
+    private static CommandContext commandContext = CommandContext.createContext(new
+            DiskProfileParameters().getSessionId()).withCompensationContext(NoOpCompensationContext.getInstance());
+
+    @InjectMocks
+    private MultipleActionsRunner runner = new ParallelMultipleActionsRunner(ActionType
+            .RemoveDiskProfile,
+            Arrays.asList(new DiskProfileParameters(),
+                    new DiskProfileParameters(),
+                    new DiskProfileParameters(),
+                    new DiskProfileParameters(),
+                    new DiskProfileParameters()),
+            commandContext,
+            true,
+            MAX_PARALLEL_COMMANDS);
+
+    private ExecutorService executorService;
+
+    @BeforeEach
+    public void setUp() {
+        executorService = Executors.newFixedThreadPool(MAX_PARALLEL_COMMANDS * 2);
+        ThreadPoolUtil.setExecutorService(executorService);
+        runner.setIsWaitForResult(true);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    public void shouldExecuteAtMostMaxParallelCommandsAtOnce() {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        TestCommand[] commands = new TestCommand[5];
+        for (int i = 0; i < commands.length; i++) {
+            TestCommand command = successfulCommand();
+            doAnswer(invocation -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                Thread.sleep(50);
+                running.decrementAndGet();
+                return invocation.callRealMethod();
+            }).when(command).executeAction();
+            commands[i] = command;
+        }
+        setUpFactory(commands);
+
+        runner.setIsRunOnlyIfAllValidatePass(false);
+        runner.execute();
+
+        for (TestCommand command : commands) {
+            verify(command, times(1)).executeAction();
+        }
+        assertThat(maxRunning.get()).isBetween(1, MAX_PARALLEL_COMMANDS);
+    }
+
+    @Test
+    public void shouldExecuteOtherCommandsWhenOneThrows() {
+        TestCommand throwingCommand = successfulCommand();
+        doThrow(new RuntimeException("failed to set up networks")).when(throwingCommand).executeAction();
+        TestCommand successfulCommand = successfulCommand();
+        TestCommand failingValidationCommand = failingValidationCommand();
+        setUpFactory(successfulCommand,
+                throwingCommand,
+                successfulCommand,
+                failingValidationCommand,
+                successfulCommand);
+
+        runner.setIsRunOnlyIfAllValidatePass(false);
+        runner.execute();
+
+        verify(throwingCommand, times(1)).executeAction();
+        verify(successfulCommand, times(3)).executeAction();
+        verify(failingValidationCommand, times(0)).executeAction();
+    }
+}
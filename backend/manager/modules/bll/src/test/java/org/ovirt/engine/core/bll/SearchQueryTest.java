@@ -1,6 +1,7 @@
 package org.ovirt.engine.core.bll;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.matches;
 import static org.mockito.Mockito.when;
@@ -411,6 +412,21 @@ public class SearchQueryTest extends AbstractQueryTest<SearchParameters, SearchQ
         assertEquals(vmResultList, getQuery().getQueryReturnValue().getReturnValue());
     }
 
+    @Test
+    public void testGetAllVMSearchWithoutDetails() {
+        VM vm = new VM();
+        vm.setId(Guid.newGuid());
+        vm.setAppList("app1,app2");
+        vmResultList.add(vm);
+        when(getQueryParameters().getSearchPattern()).thenReturn("VM" + CommonConstants.QUERY_RETURN_TYPE_SEPARATOR);
+        when(getQueryParameters().getSearchTypeValue()).thenReturn(SearchType.VM);
+        when(getQueryParameters().isWithoutDetails()).thenReturn(true);
+        when(vmNetworkInterfaceDao.getAllWithVnicOutOfSync(any())).thenReturn(Collections.emptyList());
+        getQuery().executeQueryCommand();
+        assertEquals(vmResultList, getQuery().getQueryReturnValue().getReturnValue());
+        assertNull(vm.getAppList());
+    }
+
     @Test
     public void testGetAllVMTemplatesSearch() {
         when(getQueryParameters().getSearchPattern()).thenReturn("Template" + CommonConstants.QUERY_RETURN_TYPE_SEPARATOR);
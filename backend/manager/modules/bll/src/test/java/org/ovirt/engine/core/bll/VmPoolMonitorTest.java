@@ -0,0 +1,70 @@
+package org.ovirt.engine.core.bll;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.ovirt.engine.core.common.businessentities.VmPool;
+import org.ovirt.engine.core.common.config.ConfigValues;
+import org.ovirt.engine.core.compat.Guid;
+import org.ovirt.engine.core.utils.MockConfigDescriptor;
+import org.ovirt.engine.core.utils.MockConfigExtension;
+
+@ExtendWith(MockConfigExtension.class)
+public class VmPoolMonitorTest {
+
+    private final VmPool pool1 = createVmPool();
+    private final VmPool pool2 = createVmPool();
+    private final VmPool pool3 = createVmPool();
+    private final List<VmPool> vmPools = Arrays.asList(pool1, pool2, pool3);
+
+    private VmPoolMonitor vmPoolMonitor;
+
+    public static Stream<MockConfigDescriptor<?>> mockConfiguration() {
+        return Stream.of(MockConfigDescriptor.of(ConfigValues.VmPoolMonitorBatchSize, 5));
+    }
+
+    @BeforeEach
+    public void setUp() {
+        vmPoolMonitor = new VmPoolMonitor();
+    }
+
+    private static VmPool createVmPool() {
+        VmPool vmPool = new VmPool();
+        vmPool.setVmPoolId(Guid.newGuid());
+        return vmPool;
+    }
+
+    @Test
+    public void budgetSharedBetweenPools() {
+        Map<VmPool, Integer> numOfVmsToPrestart = vmPoolMonitor.shareBudget(vmPools, Arrays.asList(10, 1, 10), 7);
+
+        assertThat(numOfVmsToPrestart).containsOnly(entry(pool1, 3), entry(pool2, 1), entry(pool3, 3));
+    }
+
+    @Test
+    public void budgetLimitedByBatchSizeAndMissingVms() {
+        Map<VmPool, Integer> numOfVmsToPrestart = vmPoolMonitor.shareBudget(vmPools, Arrays.asList(10, 0, 2), 50);
+
+        assertThat(numOfVmsToPrestart).containsOnly(entry(pool1, 5), entry(pool3, 2));
+    }
+
+    @Test
+    public void shortBudgetRotatesBetweenCycles() {
+        List<Integer> missingPrestartedVms = Arrays.asList(1, 1, 1);
+
+        assertThat(vmPoolMonitor.shareBudget(vmPools, missingPrestartedVms, 2))
+                .containsOnly(entry(pool1, 1), entry(pool2, 1));
+        assertThat(vmPoolMonitor.shareBudget(vmPools, missingPrestartedVms, 2))
+                .containsOnly(entry(pool3, 1), entry(pool1, 1));
+        assertThat(vmPoolMonitor.shareBudget(vmPools, missingPrestartedVms, 2))
+                .containsOnly(entry(pool2, 1), entry(pool3, 1));
+    }
+}
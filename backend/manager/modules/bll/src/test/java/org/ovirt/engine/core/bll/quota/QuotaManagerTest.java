@@ -1,5 +1,6 @@
 package org.ovirt.engine.core.bll.quota;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
@@ -13,6 +14,10 @@ import static org.mockito.Mockito.when;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -434,6 +439,43 @@ public class QuotaManagerTest {
         assertAuditLogNotWritten();
     }
 
+    @Test
+    public void testConcurrentConsumeStorageQuota() throws Exception {
+        final int threads = 8;
+        final int consumptionsPerThread = 100;
+        quota.setGlobalQuotaStorage(getQuotaStorage(100000, 0));
+        Quota otherQuota = mockBasicQuota();
+        otherQuota.setGlobalQuotaStorage(getQuotaStorage(100000, 0));
+        when(quotaDao.getById(otherQuota.getId())).thenReturn(otherQuota);
+
+        List<Callable<Boolean>> tasks = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            Guid quotaId = i % 2 == 0 ? quota.getId() : otherQuota.getId();
+            tasks.add(() -> {
+                boolean consumed = true;
+                for (int j = 0; j < consumptionsPerThread; j++) {
+                    consumed &= quotaManager.consume(command,
+                            Collections.singletonList(createStorageConsumption(quotaId, 1d)));
+                }
+                return consumed;
+            });
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            for (Future<Boolean> result : executor.invokeAll(tasks)) {
+                assertTrue(result.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        double expectedUsage = threads / 2 * consumptionsPerThread;
+        assertEquals(expectedUsage, quota.getGlobalQuotaStorage().getStorageSizeGBUsage().doubleValue(), 0);
+        assertEquals(expectedUsage, otherQuota.getGlobalQuotaStorage().getStorageSizeGBUsage().doubleValue(), 0);
+        assertEmptyValidateMessage();
+    }
+
     /**
      * Mock a basic quota. Only the basic data (Id, name, threshold, grace...) is set.
      *
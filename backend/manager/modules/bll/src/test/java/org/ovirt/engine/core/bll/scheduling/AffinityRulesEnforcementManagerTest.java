@@ -29,21 +29,36 @@ import org.ovirt.engine.core.common.action.ActionReturnValue;
 import org.ovirt.engine.core.common.businessentities.Cluster;
 import org.ovirt.engine.core.common.businessentities.VM;
 import org.ovirt.engine.core.common.config.ConfigValues;
+import org.ovirt.engine.core.common.scheduling.AffinityGroup;
 import org.ovirt.engine.core.common.scheduling.ClusterPolicy;
 import org.ovirt.engine.core.compat.Guid;
 import org.ovirt.engine.core.dal.dbbroker.auditloghandling.AuditLogDirector;
 import org.ovirt.engine.core.dao.ClusterDao;
+import org.ovirt.engine.core.dao.scheduling.AffinityGroupDao;
+import org.ovirt.engine.core.utils.ExecutorServiceExtension;
 import org.ovirt.engine.core.utils.MockConfigDescriptor;
 import org.ovirt.engine.core.utils.MockConfigExtension;
+import org.ovirt.engine.core.utils.MockedConfig;
 
-@ExtendWith({MockitoExtension.class, MockConfigExtension.class})
+@ExtendWith({MockitoExtension.class, MockConfigExtension.class, ExecutorServiceExtension.class})
 @MockitoSettings(strictness = Strictness.LENIENT)
 public class AffinityRulesEnforcementManagerTest {
 
     public static Stream<MockConfigDescriptor<?>> mockConfiguration() {
         return Stream.of(
                 MockConfigDescriptor.of(ConfigValues.AffinityRulesEnforcementManagerInitialDelay, 1L),
-                MockConfigDescriptor.of(ConfigValues.AffinityRulesEnforcementManagerRegularInterval, 1L)
+                MockConfigDescriptor.of(ConfigValues.AffinityRulesEnforcementManagerRegularInterval, 1L),
+                MockConfigDescriptor.of(ConfigValues.AffinityRulesEnforcementManagerMaxMigrationsPerCluster, 1),
+                MockConfigDescriptor.of(ConfigValues.AffinityRulesEnforcementManagerMaxParallelClusters, 10)
+        );
+    }
+
+    public static Stream<MockConfigDescriptor<?>> mockConfigurationWithTwoMigrationsPerCluster() {
+        return Stream.of(
+                MockConfigDescriptor.of(ConfigValues.AffinityRulesEnforcementManagerInitialDelay, 1L),
+                MockConfigDescriptor.of(ConfigValues.AffinityRulesEnforcementManagerRegularInterval, 1L),
+                MockConfigDescriptor.of(ConfigValues.AffinityRulesEnforcementManagerMaxMigrationsPerCluster, 2),
+                MockConfigDescriptor.of(ConfigValues.AffinityRulesEnforcementManagerMaxParallelClusters, 10)
         );
     }
 
@@ -52,6 +67,8 @@ public class AffinityRulesEnforcementManagerTest {
     @Mock
     private ClusterDao clusterDao;
     @Mock
+    private AffinityGroupDao affinityGroupDao;
+    @Mock
     private BackendInternal backend;
 
     @Mock
@@ -82,6 +99,8 @@ public class AffinityRulesEnforcementManagerTest {
     public void setup() {
         cluster1 = createCluster();
         cluster2 = createCluster();
+        when(vm1.getId()).thenReturn(Guid.newGuid());
+        when(vm2.getId()).thenReturn(Guid.newGuid());
         when(clusterDao.getWithoutMigratingVms()).thenReturn(Arrays.asList(cluster1, cluster2));
 
         when(rulesEnforcer.chooseVmsToMigrate(eq(cluster1))).thenReturn(Collections.singletonList(vm1).iterator());
@@ -95,6 +114,12 @@ public class AffinityRulesEnforcementManagerTest {
         arem.wakeup();
     }
 
+    private static VM createVm() {
+        VM vm = new VM();
+        vm.setId(Guid.newGuid());
+        return vm;
+    }
+
     protected Cluster createCluster() {
         Guid id = Guid.newGuid();
         Cluster cluster = new Cluster();
@@ -115,6 +140,43 @@ public class AffinityRulesEnforcementManagerTest {
         verify(arem, times(2)).migrateVM(any());
     }
 
+    @Test
+    @MockedConfig("mockConfigurationWithTwoMigrationsPerCluster")
+    public void shouldMigrateUpToMaxVmsPerCluster() {
+        VM vm3 = createVm();
+        when(rulesEnforcer.chooseVmsToMigrate(eq(cluster1)))
+                .thenAnswer(invocation -> Arrays.asList(vm1, vm3, createVm()).iterator());
+
+        arem.refresh();
+        verify(arem, times(1)).migrateVM(eq(vm1));
+        verify(arem, times(1)).migrateVM(eq(vm3));
+        verify(arem, times(1)).migrateVM(eq(vm2));
+        verify(arem, times(3)).migrateVM(any());
+        verify(rulesEnforcer, times(2)).chooseVmsToMigrate(eq(cluster1));
+    }
+
+    @Test
+    @MockedConfig("mockConfigurationWithTwoMigrationsPerCluster")
+    public void shouldMigrateOneVmPerAffinityGroup() {
+        VM vm3 = createVm();
+        VM vm4 = createVm();
+        AffinityGroup group = new AffinityGroup();
+        group.setId(Guid.newGuid());
+        group.setVmIds(Arrays.asList(vm1.getId(), vm3.getId()));
+        when(affinityGroupDao.getAllAffinityGroupsWithFlatLabelsByClusterId(cluster1.getId()))
+                .thenReturn(Collections.singletonList(group));
+        when(rulesEnforcer.chooseVmsToMigrate(eq(cluster1)))
+                .thenAnswer(invocation -> Arrays.asList(vm1, vm3, vm4).iterator());
+
+        arem.refresh();
+        verify(arem, times(1)).migrateVM(eq(vm1));
+        verify(arem, never()).migrateVM(eq(vm3));
+        verify(arem, times(1)).migrateVM(eq(vm4));
+        verify(arem, times(1)).migrateVM(eq(vm2));
+        verify(arem, times(3)).migrateVM(any());
+        verify(affinityGroupDao, times(1)).getAllAffinityGroupsWithFlatLabelsByClusterId(cluster1.getId());
+    }
+
     @Test
     public void shouldNotMigrateVmOnClusterTwoWhileMigrating() {
         final VM migratingVM = new VM();
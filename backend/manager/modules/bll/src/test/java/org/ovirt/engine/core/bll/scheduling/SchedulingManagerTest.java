@@ -0,0 +1,167 @@
+package org.ovirt.engine.core.bll.scheduling;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.ovirt.engine.core.bll.scheduling.external.BalanceResult;
+import org.ovirt.engine.core.common.businessentities.Cluster;
+import org.ovirt.engine.core.common.businessentities.VDS;
+import org.ovirt.engine.core.common.config.ConfigValues;
+import org.ovirt.engine.core.common.scheduling.ClusterPolicy;
+import org.ovirt.engine.core.common.scheduling.PolicyUnit;
+import org.ovirt.engine.core.compat.Guid;
+import org.ovirt.engine.core.dao.ClusterDao;
+import org.ovirt.engine.core.dao.VdsDao;
+import org.ovirt.engine.core.dao.scheduling.ClusterPolicyDao;
+import org.ovirt.engine.core.utils.MockConfigDescriptor;
+import org.ovirt.engine.core.utils.MockConfigExtension;
+
+@ExtendWith({ MockConfigExtension.class, MockitoExtension.class })
+public class SchedulingManagerTest {
+
+    private final Guid hostA = Guid.newGuid();
+    private final Guid hostB = Guid.newGuid();
+    private final Guid hostC = Guid.newGuid();
+    private final Guid vm1 = Guid.newGuid();
+    private final Guid vm2 = Guid.newGuid();
+    private final Guid vm3 = Guid.newGuid();
+
+    @Mock
+    private MigrationHandler migrationHandler;
+    @Mock
+    private ClusterDao clusterDao;
+    @Mock
+    private ClusterPolicyDao clusterPolicyDao;
+    @Mock
+    private VdsDao vdsDao;
+
+    @InjectMocks
+    private SchedulingManager schedulingManager;
+
+    private Cluster cluster;
+
+    public static Stream<MockConfigDescriptor<?>> mockConfiguration() {
+        return Stream.of(
+                MockConfigDescriptor.of(ConfigValues.VcpuConsumptionPercentage, 10),
+                MockConfigDescriptor.of(ConfigValues.VdsLoadBalancingMaxMigrationsPerCycle, 2));
+    }
+
+    @BeforeEach
+    public void setUp() {
+        cluster = new Cluster();
+        cluster.setId(Guid.newGuid());
+        cluster.setName("Default cluster");
+    }
+
+    @Test
+    public void migrationsCappedAtMaxMigrations() {
+        when(migrationHandler.migrateVM(any(), any(), any())).thenReturn(true);
+
+        schedulingManager.migrateBalanceResults(cluster,
+                Arrays.asList(balanceResult(vm1, hostA), balanceResult(vm2, hostB), balanceResult(vm3, hostC)),
+                2);
+
+        verifyMigrated(vm1);
+        verifyMigrated(vm2);
+        verifyNotMigrated(vm3);
+    }
+
+    @Test
+    public void relievedSourceHostSkipped() {
+        when(migrationHandler.migrateVM(any(), any(), any())).thenReturn(true);
+
+        schedulingManager.migrateBalanceResults(cluster,
+                Arrays.asList(balanceResult(vm1, hostA), balanceResult(vm2, hostA), balanceResult(vm3, hostB)),
+                3);
+
+        verifyMigrated(vm1);
+        verifyNotMigrated(vm2);
+        verifyMigrated(vm3);
+    }
+
+    @Test
+    public void sourceHostNotRelievedByFailedMigration() {
+        when(migrationHandler.migrateVM(any(), eq(vm1), any())).thenReturn(false);
+        when(migrationHandler.migrateVM(any(), eq(vm2), any())).thenReturn(true);
+
+        schedulingManager.migrateBalanceResults(cluster,
+                Arrays.asList(balanceResult(vm1, hostA), balanceResult(vm2, hostA)),
+                2);
+
+        verifyMigrated(vm1);
+        verifyMigrated(vm2);
+    }
+
+    @Test
+    public void unknownSourceHostNotSkipped() {
+        when(migrationHandler.migrateVM(any(), any(), any())).thenReturn(true);
+
+        schedulingManager.migrateBalanceResults(cluster,
+                Arrays.asList(balanceResult(vm1, null), balanceResult(vm2, null), balanceResult(vm3, null)),
+                2);
+
+        verifyMigrated(vm1);
+        verifyMigrated(vm2);
+        verifyNotMigrated(vm3);
+    }
+
+    @Test
+    public void loadBalancingMigratesUpToMaxMigrations() {
+        List<BalanceResult> balanceResults =
+                Arrays.asList(balanceResult(vm1, hostA), balanceResult(vm2, hostA), balanceResult(vm3, hostB));
+        PolicyUnit policyUnit = new PolicyUnit();
+        policyUnit.setId(Guid.newGuid());
+        policyUnit.setEnabled(true);
+        policyUnit.setInternal(true);
+        schedulingManager.getPolicyUnitsMap().put(policyUnit.getId(), new PolicyUnitImpl(policyUnit, null) {
+            @Override
+            public List<BalanceResult> balance(Cluster cluster, List<VDS> hosts, Map<String, String> parameters) {
+                return balanceResults;
+            }
+        });
+        ClusterPolicy clusterPolicy = new ClusterPolicy();
+        clusterPolicy.setId(Guid.newGuid());
+        clusterPolicy.setBalance(policyUnit.getId());
+        schedulingManager.addClusterPolicy(clusterPolicy);
+        cluster.setClusterPolicyId(clusterPolicy.getId());
+        when(clusterDao.getAll()).thenReturn(Collections.singletonList(cluster));
+        when(vdsDao.getAllForClusterWithoutMigrating(cluster.getId())).thenReturn(Collections.emptyList());
+        when(migrationHandler.migrateVM(any(), any(), any())).thenReturn(true);
+
+        schedulingManager.performLoadBalancing();
+
+        verifyMigrated(vm1);
+        verifyNotMigrated(vm2);
+        verifyMigrated(vm3);
+    }
+
+    private static BalanceResult balanceResult(Guid vmId, Guid sourceHost) {
+        return sourceHost == null
+                ? new BalanceResult(vmId, Collections.emptyList())
+                : new BalanceResult(vmId, sourceHost, Collections.emptyList());
+    }
+
+    private void verifyMigrated(Guid vmId) {
+        verify(migrationHandler, times(1)).migrateVM(any(), eq(vmId), any());
+    }
+
+    private void verifyNotMigrated(Guid vmId) {
+        verify(migrationHandler, never()).migrateVM(any(), eq(vmId), any());
+    }
+}
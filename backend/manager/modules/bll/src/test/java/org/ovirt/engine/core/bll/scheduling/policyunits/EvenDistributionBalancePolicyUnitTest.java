@@ -73,6 +73,8 @@ public class EvenDistributionBalancePolicyUnitTest extends CpuAndMemoryBalancing
         assertThat(result).hasSize(2);
         assertBalanceResult(VM_1A, Arrays.asList(HOST_A, HOST_B), result.get(0));
         assertBalanceResult(VM_1B, Arrays.asList(HOST_A, HOST_B), result.get(1));
+        assertThat(result.get(0).getSourceHost()).isEqualTo(HOST_A);
+        assertThat(result.get(1).getSourceHost()).isEqualTo(HOST_A);
     }
 
     @Test
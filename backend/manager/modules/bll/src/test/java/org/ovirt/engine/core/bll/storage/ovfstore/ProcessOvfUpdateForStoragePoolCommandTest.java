@@ -66,10 +66,11 @@ import org.ovirt.engine.core.dao.VmDao;
 import org.ovirt.engine.core.dao.VmStaticDao;
 import org.ovirt.engine.core.dao.VmTemplateDao;
 import org.ovirt.engine.core.dao.scheduling.AffinityGroupDao;
+import org.ovirt.engine.core.utils.ExecutorServiceExtension;
 import org.ovirt.engine.core.utils.MockConfigDescriptor;
 import org.ovirt.engine.core.utils.MockConfigExtension;
 
-@ExtendWith(MockConfigExtension.class)
+@ExtendWith({ MockConfigExtension.class, ExecutorServiceExtension.class })
 @MockitoSettings(strictness = Strictness.LENIENT)
 public class ProcessOvfUpdateForStoragePoolCommandTest extends BaseCommandTest {
     private static final int ITEMS_COUNT_PER_UPDATE = 100;
@@ -129,7 +130,8 @@ public class ProcessOvfUpdateForStoragePoolCommandTest extends BaseCommandTest {
     public static Stream<MockConfigDescriptor<?>> mockConfiguration() {
         return Stream.of(
             MockConfigDescriptor.of(ConfigValues.StorageDomainOvfStoreCount, 1),
-            MockConfigDescriptor.of(ConfigValues.OvfItemsCountPerUpdate, ITEMS_COUNT_PER_UPDATE)
+            MockConfigDescriptor.of(ConfigValues.OvfItemsCountPerUpdate, ITEMS_COUNT_PER_UPDATE),
+            MockConfigDescriptor.of(ConfigValues.OvfUpdateMaxParallelEntities, 4)
         );
     }
 
@@ -0,0 +1,122 @@
+package org.ovirt.engine.core.bll.tasks;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.ovirt.engine.core.common.VdcObjectType;
+import org.ovirt.engine.core.common.action.ActionParametersBase;
+import org.ovirt.engine.core.common.action.ActionReturnValue;
+import org.ovirt.engine.core.common.businessentities.CommandAssociatedEntity;
+import org.ovirt.engine.core.common.businessentities.CommandEntity;
+import org.ovirt.engine.core.compat.DateTime;
+import org.ovirt.engine.core.compat.Guid;
+import org.ovirt.engine.core.dao.CommandEntityDao;
+
+@ExtendWith(MockitoExtension.class)
+public class CommandsCacheImplTest {
+
+    private final Guid rootCommandId = Guid.newGuid();
+    private final Guid oldCommandId = Guid.newGuid();
+    private final Guid newCommandId = Guid.newGuid();
+    private final Guid entityId = Guid.newGuid();
+
+    private CommandEntity rootCommand;
+    private CommandEntity oldCommand;
+    private CommandEntity newCommand;
+    private CommandAssociatedEntity oldAssociatedEntity;
+    private CommandAssociatedEntity newAssociatedEntity;
+
+    @Mock
+    private CommandEntityDao commandEntityDao;
+
+    @Spy
+    @InjectMocks
+    private CommandsCacheImpl commandsCache;
+
+    @BeforeEach
+    public void setUp() {
+        rootCommand = createCommand(rootCommandId, null);
+        oldCommand = createCommand(oldCommandId, rootCommandId);
+        newCommand = createCommand(newCommandId, rootCommandId);
+        oldAssociatedEntity = new CommandAssociatedEntity(oldCommandId, VdcObjectType.VM, entityId);
+        newAssociatedEntity = new CommandAssociatedEntity(newCommandId, VdcObjectType.VM, entityId);
+    }
+
+    private static CommandEntity createCommand(Guid commandId, Guid rootCommandId) {
+        CommandEntity cmdEntity = new CommandEntity();
+        cmdEntity.setId(commandId);
+        cmdEntity.setRootCommandId(rootCommandId);
+        return cmdEntity;
+    }
+
+    @Test
+    public void removeAllCommandsBeforeDateRemovesCommandsFromLookups() {
+        when(commandEntityDao.getAllHeaders()).thenReturn(Arrays.asList(rootCommand, oldCommand, newCommand));
+        when(commandEntityDao.getAllCommandAssociatedEntities())
+                .thenReturn(Arrays.asList(oldAssociatedEntity, newAssociatedEntity));
+
+        assertThat(commandsCache.getChildCmdsByParentCmdId(rootCommandId)).containsOnly(oldCommand, newCommand);
+        assertThat(commandsCache.getCommandIdsByEntityId(entityId)).containsOnly(oldCommandId, newCommandId);
+        assertThat(commandsCache.getCommandAssociatedEntities(oldCommandId)).containsOnly(oldAssociatedEntity);
+
+        DateTime cutoff = new DateTime();
+        when(commandEntityDao.removeAllBeforeDate(cutoff)).thenReturn(Collections.singletonList(oldCommandId));
+        commandsCache.removeAllCommandsBeforeDate(cutoff);
+
+        verify(commandEntityDao, times(1)).getAllHeaders();
+        assertThat(commandsCache.get(oldCommandId)).isNull();
+        assertThat(commandsCache.get(newCommandId)).isSameAs(newCommand);
+        assertThat(commandsCache.getChildCmdsByParentCmdId(rootCommandId)).containsOnly(newCommand);
+        assertThat(commandsCache.getCommandIdsByEntityId(entityId)).containsOnly(newCommandId);
+        assertThat(commandsCache.getCommandAssociatedEntities(oldCommandId)).isEmpty();
+        assertThat(commandsCache.getCommandAssociatedEntities(newCommandId)).containsOnly(newAssociatedEntity);
+    }
+
+    @Test
+    public void payloadFetchedOnFirstAccess() {
+        CommandEntity persistedCommand = createCommand(newCommandId, rootCommandId);
+        persistedCommand.setCommandParameters(new ActionParametersBase());
+        persistedCommand.setReturnValue(new ActionReturnValue());
+        when(commandEntityDao.getAllHeaders()).thenReturn(Arrays.asList(rootCommand, newCommand));
+        when(commandEntityDao.get(newCommandId)).thenReturn(persistedCommand);
+
+        assertThat(commandsCache.keySet()).containsOnly(rootCommandId, newCommandId);
+        verify(commandEntityDao, never()).get(any());
+
+        CommandEntity cmdEntity = commandsCache.get(newCommandId);
+        commandsCache.get(newCommandId);
+
+        assertThat(cmdEntity).isSameAs(newCommand);
+        assertThat(cmdEntity.getCommandParameters()).isSameAs(persistedCommand.getCommandParameters());
+        assertThat(cmdEntity.getReturnValue()).isSameAs(persistedCommand.getReturnValue());
+        verify(commandEntityDao, times(1)).get(newCommandId);
+    }
+
+    @Test
+    public void payloadNotFetchedForPutCommand() {
+        when(commandEntityDao.getAllHeaders()).thenReturn(Collections.singletonList(newCommand));
+        doNothing().when(commandsCache).saveOrUpdateWithoutTransaction(any());
+        commandsCache.keySet();
+
+        CommandEntity cmdEntity = createCommand(newCommandId, rootCommandId);
+        commandsCache.put(cmdEntity);
+
+        assertThat(commandsCache.get(newCommandId)).isSameAs(cmdEntity);
+        verify(commandEntityDao, never()).get(any());
+    }
+}
@@ -4,4 +4,10 @@ package org.ovirt.engine.core.common;
  * Marker interface implemented by loadable Backend services.
  */
 public interface BackendService {
+
+    /**
+     * Invoked once the service is loaded, see {@code ServiceLoader}.
+     */
+    default void onServiceLoad() {
+    }
 }
@@ -57,6 +57,18 @@ public enum ConfigValues {
 
     @TypeConverterAttribute(Long.class)
     VdsRefreshRate,
+    @Reloadable
+    @TypeConverterAttribute(Integer.class)
+    VdsMaxAdaptiveRefreshRate,
+    @Reloadable
+    @TypeConverterAttribute(Integer.class)
+    VdsMaxRefreshesPerSecond,
+    @Reloadable
+    @TypeConverterAttribute(Integer.class)
+    VdsStatisticsSignificantChangeThreshold,
+    @Reloadable
+    @TypeConverterAttribute(Integer.class)
+    VdsStatisticsMaxSaveIntervalInSeconds,
     @TypeConverterAttribute(Long.class)
     AsyncTaskPollingRate,
 
@@ -87,6 +99,12 @@ public enum ConfigValues {
     AuditLogAgingThreshold,
     @Reloadable
     @TypeConverterAttribute(Integer.class)
+    AuditLogCleanupBatchSize,
+    @Reloadable
+    @TypeConverterAttribute(Integer.class)
+    AuditLogCleanupBatchPauseInMillis,
+    @Reloadable
+    @TypeConverterAttribute(Integer.class)
     CoCoLifeInMinutes,
     @TypeConverterAttribute(Integer.class)
     CoCoWaitForEventInMinutes,
@@ -312,6 +330,9 @@ public enum ConfigValues {
     EnableVdsLoadBalancing,
     @TypeConverterAttribute(Long.class)
     VdsLoadBalancingIntervalInMinutes,
+    @Reloadable
+    @TypeConverterAttribute(Integer.class)
+    VdsLoadBalancingMaxMigrationsPerCycle,
 
     //AffinityRulesEnforcementManager
     @TypeConverterAttribute(Long.class)
@@ -320,6 +341,12 @@ public enum ConfigValues {
     AffinityRulesEnforcementManagerInitialDelay,
     @TypeConverterAttribute(Boolean.class)
     AffinityRulesEnforcementManagerEnabled,
+    @Reloadable
+    @TypeConverterAttribute(Integer.class)
+    AffinityRulesEnforcementManagerMaxMigrationsPerCluster,
+    @Reloadable
+    @TypeConverterAttribute(Integer.class)
+    AffinityRulesEnforcementManagerMaxParallelClusters,
 
     @TypeConverterAttribute(Long.class)
     VdsHaReservationIntervalInMinutes,
@@ -485,6 +512,10 @@ public enum ConfigValues {
     @TypeConverterAttribute(Integer.class)
     OvfItemsCountPerUpdate,
 
+    @Reloadable
+    @TypeConverterAttribute(Integer.class)
+    OvfUpdateMaxParallelEntities,
+
     @TypeConverterAttribute(String.class)
     DefaultWindowsTimeZone(ClientAccessLevel.User),
 
@@ -744,6 +775,21 @@ public enum ConfigValues {
     @TypeConverterAttribute(Integer.class)
     VmPoolMonitorBatchSize,
 
+    /**
+     * Maximum number of VMs that the VM pool monitor starts in all the VM pools in a single cycle, including the VMs
+     * that are still starting from previous cycles.
+     */
+    @Reloadable
+    @TypeConverterAttribute(Integer.class)
+    VmPoolMonitorMaxPrestartsPerCycle,
+
+    /**
+     * Maximum number of VM pools that the VM pool monitor processes in parallel.
+     */
+    @Reloadable
+    @TypeConverterAttribute(Integer.class)
+    VmPoolMonitorMaxParallelPools,
+
     @TypeConverterAttribute(String.class)
     AutoRecoverySchedule,
 
@@ -950,6 +996,14 @@ public enum ConfigValues {
     @TypeConverterAttribute(Integer.class)
     GlusterRefreshRateHooks,
 
+    @Reloadable
+    @TypeConverterAttribute(Integer.class)
+    GlusterSyncMaxParallelClusters,
+
+    @Reloadable
+    @TypeConverterAttribute(Integer.class)
+    GlusterSyncMaxParallelTasksPerCluster,
+
     @TypeConverterAttribute(Integer.class)
     GlusterTaskMinWaitForCleanupInMins,
 
@@ -1164,6 +1218,19 @@ public enum ConfigValues {
     @TypeConverterAttribute(Integer.class)
     MaxTimeAutoStartBlockedOnPriority,
 
+    /**
+     * Maximum number of automatically started VMs of the same priority that are started in parallel.
+     */
+    @Reloadable
+    @TypeConverterAttribute(Integer.class)
+    AutoStartVmsRunnerMaxParallelStarts,
+
+    /**
+     * Whether backend services which do not depend on each other are initialized in parallel on engine startup.
+     */
+    @TypeConverterAttribute(Boolean.class)
+    ParallelBackendServicesInitialization,
+
     /**
      * Value representing maximum number of milliseconds a VM can be down during live migration.
      * Default value of 0 means this value will not be sent to VDSM at all and the currently configured value on
@@ -1562,6 +1629,10 @@ public enum ConfigValues {
     @TypeConverterAttribute(Integer.class)
     SetupNetworksWaitTimeoutSeconds,
 
+    @Reloadable
+    @TypeConverterAttribute(Integer.class)
+    SetupNetworksMaxParallelHosts,
+
     @TypeConverterAttribute(String.class)
     SkuToAVLevel,
 
@@ -0,0 +1,28 @@
+package org.ovirt.engine.core.common.queries;
+
+import javax.validation.constraints.NotNull;
+
+import org.ovirt.engine.core.common.interfaces.SearchType;
+
+public class GetEntityChangeVersionParameters extends QueryParametersBase {
+
+    private static final long serialVersionUID = 4271356310498412305L;
+
+    @NotNull
+    private SearchType searchType;
+
+    public GetEntityChangeVersionParameters() {
+    }
+
+    public GetEntityChangeVersionParameters(SearchType searchType) {
+        this.searchType = searchType;
+    }
+
+    public SearchType getSearchType() {
+        return searchType;
+    }
+
+    public void setSearchType(SearchType searchType) {
+        this.searchType = searchType;
+    }
+}
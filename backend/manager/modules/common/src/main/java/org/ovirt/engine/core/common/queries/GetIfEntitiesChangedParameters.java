@@ -0,0 +1,59 @@
+package org.ovirt.engine.core.common.queries;
+
+import javax.validation.constraints.NotNull;
+
+import org.ovirt.engine.core.common.interfaces.SearchType;
+
+/**
+ * Parameters of a query that is run only if the change version of the entities it returns differs from the version
+ * known by the caller.
+ */
+public class GetIfEntitiesChangedParameters extends GetEntityChangeVersionParameters {
+
+    private static final long serialVersionUID = -3470625374213049226L;
+
+    @NotNull
+    private QueryType queryType;
+
+    @NotNull
+    private QueryParametersBase queryParameters;
+
+    private Long knownVersion;
+
+    public GetIfEntitiesChangedParameters() {
+    }
+
+    public GetIfEntitiesChangedParameters(QueryType queryType,
+            QueryParametersBase queryParameters,
+            SearchType searchType,
+            Long knownVersion) {
+        super(searchType);
+        this.queryType = queryType;
+        this.queryParameters = queryParameters;
+        this.knownVersion = knownVersion;
+    }
+
+    public QueryType getQueryType() {
+        return queryType;
+    }
+
+    public void setQueryType(QueryType queryType) {
+        this.queryType = queryType;
+    }
+
+    public QueryParametersBase getQueryParameters() {
+        return queryParameters;
+    }
+
+    public void setQueryParameters(QueryParametersBase queryParameters) {
+        this.queryParameters = queryParameters;
+    }
+
+    public Long getKnownVersion() {
+        return knownVersion;
+    }
+
+    public void setKnownVersion(Long knownVersion) {
+        this.knownVersion = knownVersion;
+    }
+}
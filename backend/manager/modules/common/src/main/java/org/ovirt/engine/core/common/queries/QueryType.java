@@ -302,6 +302,8 @@ public enum QueryType implements Serializable {
 
     // Search queries
     Search(QueryAuthType.User),
+    GetEntityChangeVersion(QueryAuthType.User),
+    GetIfEntitiesChanged(QueryAuthType.User),
 
     // Public services
     GetDomainList(QueryAuthType.User),
@@ -12,7 +12,9 @@ public class SearchParameters extends QueryParametersBase implements Serializabl
     private SearchType _searchType;
     private int _maxCount;
     private long searchFrom;
+    private long searchAfter;
     private boolean caseSensitive;
+    private boolean withoutDetails;
 
     public SearchParameters() {
         this (null, SearchType.VM, true);
@@ -53,6 +55,18 @@ public class SearchParameters extends QueryParametersBase implements Serializabl
         return searchFrom;
     }
 
+    /**
+     * Sets the primary key of the last row of the previous page, the search continues right after it using keyset
+     * pagination instead of skipping the rows of the previous pages.
+     */
+    public void setSearchAfter(long value) {
+        searchAfter = value;
+    }
+
+    public long getSearchAfter() {
+        return searchAfter;
+    }
+
     public boolean getCaseSensitive() {
         return caseSensitive;
     }
@@ -61,13 +75,27 @@ public class SearchParameters extends QueryParametersBase implements Serializabl
         caseSensitive = value;
     }
 
+    /**
+     * Sets whether the bulky details of the found entities, that are not shown in lists, are omitted from the
+     * result. Clients that need the details of an entity should query it by its id.
+     */
+    public void setWithoutDetails(boolean value) {
+        withoutDetails = value;
+    }
+
+    public boolean isWithoutDetails() {
+        return withoutDetails;
+    }
+
     @Override
     protected ToStringBuilder appendAttributes(ToStringBuilder tsb) {
         return super.appendAttributes(tsb)
                 .append("searchType", getSearchTypeValue())
                 .append("searchPattern", getSearchPattern())
                 .append("caseSensitive", getCaseSensitive())
+                .append("withoutDetails", isWithoutDetails())
                 .append("from", getSearchFrom())
+                .append("after", getSearchAfter())
                 .append("max", getMaxCount());
     }
 }
@@ -0,0 +1,38 @@
+package org.ovirt.engine.core.common.queries;
+
+import java.io.Serializable;
+
+/**
+ * The result of a query along with the change version of its entities. A result that is not changed carries no
+ * return value, the caller already has it.
+ */
+public class VersionedQueryResult implements Serializable {
+
+    private static final long serialVersionUID = 6410233146725915474L;
+
+    private long version;
+    private boolean changed;
+    private Object returnValue;
+
+    public VersionedQueryResult() {
+    }
+
+    public VersionedQueryResult(long version, boolean changed, Object returnValue) {
+        this.version = version;
+        this.changed = changed;
+        this.returnValue = returnValue;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public boolean isChanged() {
+        return changed;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T getReturnValue() {
+        return (T) returnValue;
+    }
+}
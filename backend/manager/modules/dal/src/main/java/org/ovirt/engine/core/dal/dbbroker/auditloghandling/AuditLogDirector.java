@@ -20,6 +20,8 @@ public class AuditLogDirector {
 
     @Inject
     private AuditLogDao auditLogDao;
+    @Inject
+    private EntityChangeFeed entityChangeFeed;
 
     public void log(AuditLogable auditLogable, AuditLogType logType) {
         log(auditLogable, logType, "", false);
@@ -55,6 +57,7 @@ public class AuditLogDirector {
             if (savedAuditLog == null) {
                 log.warn("Unable to create AuditLog");
             } else {
+                entityChangeFeed.auditLogSaved(savedAuditLog);
                 logMessage(savedAuditLog);
             }
         }
@@ -0,0 +1,67 @@
+package org.ovirt.engine.core.dal.dbbroker.auditloghandling;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.inject.Singleton;
+
+import org.ovirt.engine.core.common.businessentities.AuditLog;
+import org.ovirt.engine.core.common.interfaces.SearchType;
+import org.ovirt.engine.core.compat.Guid;
+
+/**
+ * Keeps a change version per searchable entity type, bumped for each saved audit log event about an entity of that
+ * type. Clients showing search results, like the grids of the administration portal, can compare the version
+ * with the one they last saw before re-running their search.
+ *
+ * The versions start from the time the engine started, so they never repeat across restarts.
+ */
+@Singleton
+public class EntityChangeFeed {
+
+    private final Map<SearchType, AtomicLong> versions = new EnumMap<>(SearchType.class);
+
+    public EntityChangeFeed() {
+        long initialVersion = System.currentTimeMillis();
+        for (SearchType searchType : SearchType.values()) {
+            versions.put(searchType, new AtomicLong(initialVersion));
+        }
+    }
+
+    public long getVersion(SearchType searchType) {
+        return versions.get(searchType).get();
+    }
+
+    public void entityChanged(SearchType searchType) {
+        versions.get(searchType).incrementAndGet();
+    }
+
+    /**
+     * The version of every entity type referenced by the event is changed. An event about a template may carry the id
+     * of a vm, like the one it was created from, and the status of a vm or a host is shown in the grids of its cluster
+     * and data center, so no referenced entity can be assumed to be unaffected.
+     */
+    void auditLogSaved(AuditLog auditLog) {
+        entityChanged(SearchType.AuditLog);
+        entityChanged(SearchType.VM, auditLog.getVmId());
+        entityChanged(SearchType.VmTemplate, auditLog.getVmTemplateId());
+        entityChanged(SearchType.VDS, auditLog.getVdsId());
+        entityChanged(SearchType.Cluster, auditLog.getClusterId());
+        entityChanged(SearchType.StoragePool, auditLog.getStoragePoolId());
+        entityChanged(SearchType.StorageDomain, auditLog.getStorageDomainId());
+        entityChanged(SearchType.Quota, auditLog.getQuotaId());
+        entityChanged(SearchType.GlusterVolume, auditLog.getGlusterVolumeId());
+        entityChanged(SearchType.Job, auditLog.getJobId());
+    }
+
+    private static boolean isSet(Guid id) {
+        return !Guid.isNullOrEmpty(id);
+    }
+
+    private void entityChanged(SearchType searchType, Guid id) {
+        if (isSet(id)) {
+            entityChanged(searchType);
+        }
+    }
+}
@@ -138,6 +138,19 @@ public interface AuditLogDao extends Dao, SearchDao<AuditLog> {
      */
     void removeAllBeforeDate(Date cutoff);
 
+    /**
+     * Removes all entries before the specified cutoff date, oldest first, in batches of the given size
+     *
+     * @param cutoff
+     *            the cutoff date
+     * @param batchSize
+     *            the maximal number of entries to remove at a time
+     * @param pauseInMillis
+     *            the pause between the batches
+     * @return the number of removed entries
+     */
+    int removeAllBeforeDateInBatches(Date cutoff, int batchSize, int pauseInMillis);
+
     /**
      * Removes all entries for the given VDS id.
      *
@@ -228,6 +228,17 @@ public class AuditLogDaoImpl extends BaseDao implements AuditLogDao {
         getCallsHandler().executeModification("DeleteAuditLogOlderThenDate", parameterSource);
     }
 
+    @Override
+    public int removeAllBeforeDateInBatches(Date cutoff, int batchSize, int pauseInMillis) {
+        MapSqlParameterSource parameterSource = getCustomMapSqlParameterSource()
+                .addValue("date", cutoff)
+                .addValue("batch_size", batchSize)
+                .addValue("pause_in_millis", pauseInMillis);
+
+        return getCallsHandler().executeModificationReturnResult("DeleteAuditLogOlderThenDateInBatch",
+                parameterSource);
+    }
+
     @Override
     public void removeAllForVds(Guid id, boolean removeConfigAlerts) {
         MapSqlParameterSource parameterSource = getCustomMapSqlParameterSource()
@@ -19,7 +19,17 @@ public interface CommandEntityDao extends GenericDao<CommandEntity, Guid> {
 
     void updateNotified(Guid id);
 
-    void removeAllBeforeDate(Date cutoff);
+    /**
+     * Removes the commands created before the given date which have no async tasks.
+     *
+     * @return the ids of the removed commands
+     */
+    List<Guid> removeAllBeforeDate(Date cutoff);
+
+    /**
+     * Returns all the commands without their parameters and return values, which can be loaded by {@link #get}.
+     */
+    List<CommandEntity> getAllHeaders();
 
     List<CommandEntity> getCmdEntitiesByParentCmdId(Guid parentId);
 
@@ -28,4 +38,6 @@ public interface CommandEntityDao extends GenericDao<CommandEntity, Guid> {
     void insertCommandAssociatedEntities(Collection<CommandAssociatedEntity> cmdAssociatedEntities);
 
     List<CommandAssociatedEntity> getAllCommandAssociatedEntities(Guid cmdId);
+
+    List<CommandAssociatedEntity> getAllCommandAssociatedEntities();
 }
@@ -41,7 +41,7 @@ public class CommandEntityDaoImpl extends DefaultGenericDao<CommandEntity, Guid>
         return entity;
     };
 
-    private static RowMapper<CommandEntity> mapper = (resultSet, rowNum) -> {
+    private static RowMapper<CommandEntity> headerMapper = (resultSet, rowNum) -> {
         CommandEntity result = new CommandEntity();
         result.setEngineSessionSeqId(resultSet.getLong("engine_session_seq_id"));
         result.setUserId(Guid.createGuidFromString(resultSet.getString("user_id")));
@@ -52,8 +52,6 @@ public class CommandEntityDaoImpl extends DefaultGenericDao<CommandEntity, Guid>
         result.setCommandType(ActionType.forValue(resultSet.getInt("command_type")));
         result.setParentCommandId(Guid.createGuidFromString(resultSet.getString("parent_command_id")));
         result.setRootCommandId(Guid.createGuidFromString(resultSet.getString("root_command_id")));
-        result.setCommandParameters(deserializeParameters(resultSet.getString("command_parameters"), resultSet.getString("command_params_class")));
-        result.setReturnValue(deserializeReturnValue(resultSet.getString("return_value"), resultSet.getString("return_value_class")));
         result.setCommandStatus(getCommandStatus(resultSet.getString("status")));
         result.setExecuted(resultSet.getBoolean("executed"));
         result.setCallbackEnabled(resultSet.getBoolean("callback_enabled"));
@@ -62,6 +60,15 @@ public class CommandEntityDaoImpl extends DefaultGenericDao<CommandEntity, Guid>
         return result;
     };
 
+    private static RowMapper<CommandEntity> mapper = (resultSet, rowNum) -> {
+        CommandEntity result = headerMapper.mapRow(resultSet, rowNum);
+        result.setCommandParameters(deserializeParameters(resultSet.getString("command_parameters"),
+                resultSet.getString("command_params_class")));
+        result.setReturnValue(deserializeReturnValue(resultSet.getString("return_value"),
+                resultSet.getString("return_value_class")));
+        return result;
+    };
+
     private MapSqlParameterMapper<CommandAssociatedEntity> cocoCmdEntityMapper = entity -> {
         CustomMapSqlParameterSource paramSource = getCustomMapSqlParameterSource();
         paramSource.addValue("command_id", entity.getCommandId()).
@@ -164,11 +171,20 @@ public class CommandEntityDaoImpl extends DefaultGenericDao<CommandEntity, Guid>
     }
 
     @Override
-    public void removeAllBeforeDate(Date cutoff) {
+    public List<Guid> removeAllBeforeDate(Date cutoff) {
         MapSqlParameterSource parameterSource = getCustomMapSqlParameterSource()
                 .addValue("date", cutoff);
 
-        getCallsHandler().executeModification("DeleteCommandEntitiesOlderThanDate", parameterSource);
+        return getCallsHandler().executeReadList("DeleteCommandEntitiesOlderThanDate",
+                createGuidMapper(),
+                parameterSource);
+    }
+
+    @Override
+    public List<CommandEntity> getAllHeaders() {
+        return getCallsHandler().executeReadList("GetAllCommandEntityHeaders",
+                headerMapper,
+                getCustomMapSqlParameterSource());
     }
 
     @Override
@@ -204,4 +220,11 @@ public class CommandEntityDaoImpl extends DefaultGenericDao<CommandEntity, Guid>
                 parameterSource);
     }
 
+    @Override
+    public List<CommandAssociatedEntity> getAllCommandAssociatedEntities() {
+        return getCallsHandler().executeReadList("GetAllFromCommandAssociatedEntities",
+                coCoCmdEntityRowMapper,
+                getCustomMapSqlParameterSource());
+    }
+
 }
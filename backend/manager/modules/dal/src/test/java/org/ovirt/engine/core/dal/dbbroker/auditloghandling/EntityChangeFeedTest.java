@@ -0,0 +1,99 @@
+package org.ovirt.engine.core.dal.dbbroker.auditloghandling;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import org.junit.jupiter.api.Test;
+import org.ovirt.engine.core.common.businessentities.AuditLog;
+import org.ovirt.engine.core.common.interfaces.SearchType;
+import org.ovirt.engine.core.compat.Guid;
+
+public class EntityChangeFeedTest {
+
+    private final EntityChangeFeed feed = new EntityChangeFeed();
+
+    @Test
+    public void auditLogChangesItsEntities() {
+        long auditLogVersion = feed.getVersion(SearchType.AuditLog);
+        long vmVersion = feed.getVersion(SearchType.VM);
+        long hostVersion = feed.getVersion(SearchType.VDS);
+
+        AuditLog auditLog = new AuditLog();
+        auditLog.setVmId(Guid.newGuid());
+        auditLog.setVdsId(Guid.Empty);
+        feed.auditLogSaved(auditLog);
+
+        assertNotEquals(auditLogVersion, feed.getVersion(SearchType.AuditLog));
+        assertNotEquals(vmVersion, feed.getVersion(SearchType.VM));
+        assertEquals(hostVersion, feed.getVersion(SearchType.VDS));
+    }
+
+    @Test
+    public void vmEventChangesItsTemplateClusterAndDataCenter() {
+        long templateVersion = feed.getVersion(SearchType.VmTemplate);
+        long clusterVersion = feed.getVersion(SearchType.Cluster);
+        long dataCenterVersion = feed.getVersion(SearchType.StoragePool);
+
+        AuditLog auditLog = new AuditLog();
+        auditLog.setVmId(Guid.newGuid());
+        auditLog.setVmTemplateId(Guid.newGuid());
+        auditLog.setClusterId(Guid.newGuid());
+        auditLog.setStoragePoolId(Guid.newGuid());
+        feed.auditLogSaved(auditLog);
+
+        assertNotEquals(templateVersion, feed.getVersion(SearchType.VmTemplate));
+        assertNotEquals(clusterVersion, feed.getVersion(SearchType.Cluster));
+        assertNotEquals(dataCenterVersion, feed.getVersion(SearchType.StoragePool));
+    }
+
+    @Test
+    public void templateEventWithVmChangesTheTemplate() {
+        long templateVersion = feed.getVersion(SearchType.VmTemplate);
+        long vmVersion = feed.getVersion(SearchType.VM);
+
+        AuditLog auditLog = new AuditLog();
+        auditLog.setVmTemplateId(Guid.newGuid());
+        auditLog.setVmId(Guid.newGuid());
+        feed.auditLogSaved(auditLog);
+
+        assertNotEquals(templateVersion, feed.getVersion(SearchType.VmTemplate));
+        assertNotEquals(vmVersion, feed.getVersion(SearchType.VM));
+    }
+
+    @Test
+    public void hostEventChangesItsClusterAndDataCenter() {
+        long hostVersion = feed.getVersion(SearchType.VDS);
+        long clusterVersion = feed.getVersion(SearchType.Cluster);
+        long dataCenterVersion = feed.getVersion(SearchType.StoragePool);
+        long templateVersion = feed.getVersion(SearchType.VmTemplate);
+
+        AuditLog auditLog = new AuditLog();
+        auditLog.setVdsId(Guid.newGuid());
+        auditLog.setClusterId(Guid.newGuid());
+        auditLog.setStoragePoolId(Guid.newGuid());
+        feed.auditLogSaved(auditLog);
+
+        assertNotEquals(hostVersion, feed.getVersion(SearchType.VDS));
+        assertNotEquals(clusterVersion, feed.getVersion(SearchType.Cluster));
+        assertNotEquals(dataCenterVersion, feed.getVersion(SearchType.StoragePool));
+        assertEquals(templateVersion, feed.getVersion(SearchType.VmTemplate));
+    }
+
+    @Test
+    public void dataCenterEventChangesTheDataCenter() {
+        long dataCenterVersion = feed.getVersion(SearchType.StoragePool);
+
+        AuditLog auditLog = new AuditLog();
+        auditLog.setStoragePoolId(Guid.newGuid());
+        feed.auditLogSaved(auditLog);
+
+        assertNotEquals(dataCenterVersion, feed.getVersion(SearchType.StoragePool));
+    }
+
+    @Test
+    public void entityChanged() {
+        long version = feed.getVersion(SearchType.Network);
+        feed.entityChanged(SearchType.Network);
+        assertNotEquals(version, feed.getVersion(SearchType.Network));
+    }
+}
@@ -244,6 +244,16 @@ public class AuditLogDaoTest extends BaseDaoTestCase<AuditLogDao> {
         assertEquals(1, result.size());
     }
 
+    @Test
+    public void testRemoveAllBeforeDateInBatches()
+            throws Exception {
+        Date cutoff = EXPECTED_DATE_FORMAT.parse("2010-12-20 13:11:00");
+        // a batch size of 1 makes every entry be removed by a batch of its own
+        assertTrue(dao.removeAllBeforeDateInBatches(cutoff, 1, 0) > 1);
+        List<AuditLog> result = dao.getAll(PRIVILEGED_USER_ID, true);
+        assertEquals(1, result.size());
+    }
+
     @Test
     public void testRemoveAllForVds() {
         dao.removeAllForVds(FixturesTool.VDS_RHEL6_NFS_SPM, true);
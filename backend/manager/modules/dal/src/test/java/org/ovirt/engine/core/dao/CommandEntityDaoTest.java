@@ -116,4 +116,51 @@ public class CommandEntityDaoTest extends BaseGenericDaoTestCase<Guid, CommandEn
         assertEquals(2, entities.size());
         assertThat(entities, hasItems(cocoCmdEntities.toArray(new CommandAssociatedEntity[cocoCmdEntities.size()])));
     }
+
+    @Test
+    public void testGetAllCommandAssociatedEntities() {
+        CommandEntity cmdEntity = generateNewEntity();
+        dao.save(cmdEntity);
+        Set<CommandAssociatedEntity> cocoCmdEntities = new HashSet<>();
+        cocoCmdEntities.add(new CommandAssociatedEntity(cmdEntity.getId(), VdcObjectType.Storage, Guid.newGuid()));
+        cocoCmdEntities.add(new CommandAssociatedEntity(cmdEntity.getId(), VdcObjectType.Disk, Guid.newGuid()));
+        dao.insertCommandAssociatedEntities(cocoCmdEntities);
+        List<CommandAssociatedEntity> entities = dao.getAllCommandAssociatedEntities();
+        assertNotNull(entities);
+        assertThat(entities, hasItems(cocoCmdEntities.toArray(new CommandAssociatedEntity[cocoCmdEntities.size()])));
+    }
+
+    @Test
+    public void testGetDeserializesParameters() {
+        CommandEntity cmdEntity = generateNewEntity();
+        dao.save(cmdEntity);
+        CommandEntity result = dao.get(cmdEntity.getId());
+        assertNotNull(result.getCommandParameters());
+        assertNull(result.getReturnValue());
+    }
+
+    @Test
+    public void testGetAllHeaders() {
+        CommandEntity cmdEntity = generateNewEntity();
+        dao.save(cmdEntity);
+        CommandEntity header = dao.getAllHeaders()
+                .stream()
+                .filter(cmd -> cmd.getId().equals(cmdEntity.getId()))
+                .findFirst()
+                .orElse(null);
+        assertNotNull(header);
+        assertEquals(cmdEntity.getCommandType(), header.getCommandType());
+        assertEquals(cmdEntity.getCommandStatus(), header.getCommandStatus());
+        assertNull(header.getCommandParameters());
+    }
+
+    @Test
+    public void testRemoveAllBeforeDate() {
+        CommandEntity cmdEntity = generateNewEntity();
+        cmdEntity.setCreatedAt(new Date(0));
+        dao.save(cmdEntity);
+        List<Guid> removedIds = dao.removeAllBeforeDate(new Date(1000));
+        assertThat(removedIds, hasItems(cmdEntity.getId()));
+        assertNull(dao.get(cmdEntity.getId()));
+    }
 }
@@ -3,13 +3,16 @@ package org.ovirt.engine.core.sso.api;
 import java.io.Serializable;
 import java.net.MalformedURLException;
 import java.security.cert.Certificate;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.PriorityBlockingQueue;
 
 import org.apache.commons.lang.StringUtils;
 import org.ovirt.engine.api.extensions.Base;
@@ -39,6 +42,7 @@ public class SsoContext implements Serializable {
     private SsoClientsRegistry ssoClientRegistry;
     private Map<String, SsoSession> ssoSessions = new ConcurrentHashMap<>();
     private Map<String, SsoSession> ssoSessionsById = new ConcurrentHashMap<>();
+    private Queue<SsoSessionLastAccess> ssoSessionsByLastAccess = new PriorityBlockingQueue<>();
     private Map<String, AuthenticationProfile> profiles = null;
     private Map<String, List<String>> scopeDependenciesMap = new HashMap<>();
 
@@ -163,6 +167,39 @@ public class SsoContext implements Serializable {
 
     public void registerSsoSession(SsoSession ssoSession) {
         ssoSessions.put(ssoSession.getAccessToken(), ssoSession);
+        ssoSessionsByLastAccess.add(
+                new SsoSessionLastAccess(ssoSession.getAccessToken(), ssoSession.getTokenLastAccess()));
+    }
+
+    /**
+     * Returns the sessions whose token was not accessed for longer than the given timeout, and removes them from the
+     * index of sessions ordered by last access. Sessions accessed since they were indexed are indexed again by their
+     * current last access, so only the sessions at the head of the index are visited. The returned sessions must be
+     * removed by the caller, as they are not visited again.
+     *
+     * @param currentTime current time, in nanoseconds as returned by {@link System#nanoTime()}
+     * @param tokenTimeout token timeout in nanoseconds
+     */
+    public List<SsoSession> pollExpiredSsoSessions(long currentTime, long tokenTimeout) {
+        List<SsoSession> expiredSessions = new ArrayList<>();
+        SsoSessionLastAccess head;
+        while ((head = ssoSessionsByLastAccess.peek()) != null && currentTime - head.lastAccess > tokenTimeout) {
+            head = ssoSessionsByLastAccess.poll();
+            if (head == null) {
+                break;
+            }
+            SsoSession ssoSession = ssoSessions.get(head.token);
+            if (ssoSession == null) {
+                // the session was already removed
+                continue;
+            }
+            if (currentTime - ssoSession.getTokenLastAccess() > tokenTimeout) {
+                expiredSessions.add(ssoSession);
+            } else {
+                ssoSessionsByLastAccess.add(new SsoSessionLastAccess(head.token, ssoSession.getTokenLastAccess()));
+            }
+        }
+        return expiredSessions;
     }
 
     public void removeSsoSession(String token) {
@@ -265,4 +302,22 @@ public class SsoContext implements Serializable {
                 .map(AuthenticationProfile::getAuthzName)
                 .orElse("");
     }
+
+    private static class SsoSessionLastAccess implements Comparable<SsoSessionLastAccess>, Serializable {
+        private static final long serialVersionUID = -3504226335046338532L;
+
+        private final String token;
+        private final long lastAccess;
+
+        SsoSessionLastAccess(String token, long lastAccess) {
+            this.token = token;
+            this.lastAccess = lastAccess;
+        }
+
+        @Override
+        public int compareTo(SsoSessionLastAccess other) {
+            // last access times are System.nanoTime() values, so only their difference is meaningful
+            return Long.signum(lastAccess - other.lastAccess);
+        }
+    }
 }
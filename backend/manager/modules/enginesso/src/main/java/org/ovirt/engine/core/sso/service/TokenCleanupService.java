@@ -1,8 +1,9 @@
 package org.ovirt.engine.core.sso.service;
 
-import java.util.Map;
+import java.util.List;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.servlet.ServletContext;
 import javax.servlet.http.HttpSession;
@@ -18,32 +19,37 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 public class TokenCleanupService {
-    private static long lastCleanup = 0;
+    private static final AtomicLong lastCleanup = new AtomicLong();
     private static Logger log = LoggerFactory.getLogger(TokenCleanupService.class);
 
-    public static synchronized void cleanupExpiredTokens(ServletContext ctx) {
+    public static void cleanupExpiredTokens(ServletContext ctx) {
         SsoContext ssoContext = SsoService.getSsoContext(ctx);
         long currentTime = System.nanoTime();
+        long previousCleanup = lastCleanup.get();
         if (currentTime
-                - lastCleanup < (ssoContext.getSsoLocalConfig().getLong("SSO_HOUSE_KEEPING_INTERVAL") * 1000000000)) {
+                - previousCleanup < (ssoContext.getSsoLocalConfig().getLong("SSO_HOUSE_KEEPING_INTERVAL") * 1000000000)
+                || !lastCleanup.compareAndSet(previousCleanup, currentTime)) {
             log.debug("Not cleaning up expired tokens");
             return;
         }
-        lastCleanup = currentTime;
         log.debug("Cleaning up expired tokens");
         long tokenTimeout = ssoContext.getSsoLocalConfig().getLong("SSO_TOKEN_TIMEOUT") * 1000000000;
 
-        for (Map.Entry<String, SsoSession> entry : ssoContext.getSsoSessions().entrySet()) {
-            if ((currentTime - entry.getValue().getTokenLastAccess()) > tokenTimeout) {
-                try {
-                    cleanupSsoSession(ssoContext, entry.getValue(), entry.getValue().getAssociatedClientIds());
-                } catch (Exception ex) {
-                    log.error("Unable to cleanup expired session for token {} : {}", entry.getKey(), ex.getMessage());
-                    log.debug("Exception", ex);
-                }
+        List<SsoSession> expiredSessions = ssoContext.pollExpiredSsoSessions(currentTime, tokenTimeout);
+        for (SsoSession ssoSession : expiredSessions) {
+            try {
+                cleanupSsoSession(ssoContext, ssoSession, ssoSession.getAssociatedClientIds());
+            } catch (Exception ex) {
+                log.error("Unable to cleanup expired session for token {} : {}",
+                        ssoSession.getAccessToken(),
+                        ex.getMessage());
+                log.debug("Exception", ex);
+            } finally {
+                // the session is no longer indexed by last access, make sure it does not outlive a failed cleanup
+                ssoContext.removeSsoSession(ssoSession.getAccessToken());
             }
         }
-        log.debug("Done cleaning up expired tokens");
+        log.debug("Done cleaning up {} expired tokens", expiredSessions.size());
     }
 
     public static void cleanupSsoSession(
@@ -0,0 +1,65 @@
+package org.ovirt.engine.core.sso.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SsoContextTest {
+
+    private static final long TOKEN_TIMEOUT = TimeUnit.MINUTES.toNanos(10);
+
+    private SsoContext ssoContext;
+
+    @BeforeEach
+    public void setup() {
+        ssoContext = new SsoContext();
+    }
+
+    @Test
+    public void noExpiredSessions() {
+        registerSession("token1");
+        registerSession("token2");
+
+        assertTrue(ssoContext.pollExpiredSsoSessions(System.nanoTime(), TOKEN_TIMEOUT).isEmpty());
+        assertEquals(2,
+                ssoContext.pollExpiredSsoSessions(System.nanoTime() + 2 * TOKEN_TIMEOUT, TOKEN_TIMEOUT).size());
+    }
+
+    @Test
+    public void touchedSessionIsNotExpired() throws InterruptedException {
+        SsoSession session1 = registerSession("token1");
+        registerSession("token2");
+        Thread.sleep(5);
+
+        // touched after it was registered, so the last access it was indexed by is outdated
+        session1.touch();
+        long currentTime = session1.getTokenLastAccess() + TOKEN_TIMEOUT - 1;
+        List<SsoSession> expiredSessions = ssoContext.pollExpiredSsoSessions(currentTime, TOKEN_TIMEOUT);
+
+        assertEquals(1, expiredSessions.size());
+        assertEquals("token2", expiredSessions.get(0).getAccessToken());
+        assertEquals(1,
+                ssoContext.pollExpiredSsoSessions(System.nanoTime() + 2 * TOKEN_TIMEOUT, TOKEN_TIMEOUT).size());
+    }
+
+    @Test
+    public void removedSessionIsSkipped() {
+        registerSession("token1");
+        ssoContext.removeSsoSession("token1");
+
+        assertTrue(ssoContext.pollExpiredSsoSessions(System.nanoTime() + 2 * TOKEN_TIMEOUT, TOKEN_TIMEOUT).isEmpty());
+    }
+
+    private SsoSession registerSession(String token) {
+        SsoSession ssoSession = new SsoSession();
+        ssoSession.setAccessToken(token);
+        ssoSession.touch();
+        ssoContext.registerSsoSession(ssoSession);
+        return ssoSession;
+    }
+}
@@ -0,0 +1,80 @@
+package org.ovirt.engine.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.ovirt.engine.core.common.businessentities.ChipsetType;
+import org.ovirt.engine.core.common.osinfo.MapBackedPreferences;
+import org.ovirt.engine.core.compat.Version;
+import org.ovirt.engine.core.utils.OsRepositoryImpl;
+
+/**
+ * <p> Benchmark's the os lookups of {@link OsRepositoryImpl} done by the libvirt domain xml builder each time a vm
+ * is started.</p>
+ * <p> The os of the vm is derived from another one, as most of the oss of the default osinfo configuration are, so
+ * the values not set on the os itself are looked up on the os it is derived from.</p>
+ *
+ * @see OsRepositoryImpl
+ */
+@BenchmarkMode(Mode.All)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OsRepositoryBenchmark {
+
+    @Benchmark
+    public void hypervEnabled(BenchmarkState state, Blackhole blackhole) {
+        blackhole.consume(OsRepositoryImpl.INSTANCE.isHypervEnabled(state.osId, state.version));
+    }
+
+    @Benchmark
+    public void cdInterface(BenchmarkState state, Blackhole blackhole) {
+        blackhole.consume(OsRepositoryImpl.INSTANCE.getCdInterface(state.osId, state.version, ChipsetType.Q35));
+    }
+
+    @Benchmark
+    public void soundDevice(BenchmarkState state, Blackhole blackhole) {
+        blackhole.consume(OsRepositoryImpl.INSTANCE.getSoundDevice(state.osId, state.version, ChipsetType.Q35));
+    }
+
+    @Benchmark
+    public void usbControllerModel(BenchmarkState state, Blackhole blackhole) {
+        blackhole.consume(
+                OsRepositoryImpl.INSTANCE.getOsUsbControllerModel(state.osId, state.version, ChipsetType.Q35));
+    }
+
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+
+        private int osId = 3;
+        private Version version = Version.getLast();
+
+        @Setup
+        public void setup() {
+            MapBackedPreferences preferences = new MapBackedPreferences(null, "");
+            preferences.node("/os/other/id").put("value", "0");
+            preferences.node("/os/other/family").put("value", "Other");
+            preferences.node("/os/other/devices/hyperv/enabled").put("value", "false");
+            preferences.node("/os/other/devices/cdInterface").put("value", "ide,q35/sata");
+            preferences.node("/os/other/devices/audio").put("value", "ich6,q35/ich9");
+            preferences.node("/os/other/devices/usb/controller").put("value", "nec-xhci,q35/qemu-xhci");
+            preferences.node("/os/other_linux/id").put("value", "1");
+            preferences.node("/os/other_linux/derivedFrom").put("value", "other");
+            preferences.node("/os/other_linux/family").put("value", "Linux");
+            preferences.node("/os/rhel_8x64/id").put("value", "2");
+            preferences.node("/os/rhel_8x64/derivedFrom").put("value", "other_linux");
+            preferences.node("/os/rhel_9x64/id").put("value", String.valueOf(osId));
+            preferences.node("/os/rhel_9x64/derivedFrom").put("value", "rhel_8x64");
+            OsRepositoryImpl.INSTANCE.init(preferences);
+        }
+    }
+}
@@ -33,6 +33,7 @@ public abstract class AbstractBackendCollectionResource<R extends BaseResource,
     private static final String BLOCKING_EXPECTATION = "201-created";
     private static final String CREATION_STATUS_REL = "creation_status";
     public static final String FROM_CONSTRAINT_PARAMETER = "from";
+    public static final String AFTER_CONSTRAINT_PARAMETER = "after";
     public static final String CASE_SENSITIVE_CONSTRAINT_PARAMETER = "case_sensitive";
     private static final Logger log = LoggerFactory.getLogger(AbstractBackendCollectionResource.class);
 
@@ -54,12 +55,16 @@ public abstract class AbstractBackendCollectionResource<R extends BaseResource,
         SearchParameters searchParams = new SearchParameters(constraint, searchType);
         boolean caseSensitive = ParametersHelper.getBooleanParameter(httpHeaders, uriInfo, CASE_SENSITIVE_CONSTRAINT_PARAMETER, true, false);
         int from = ParametersHelper.getIntegerParameter(httpHeaders, uriInfo, FROM_CONSTRAINT_PARAMETER, -1, -1);
+        long after = ParametersHelper.getLongParameter(httpHeaders, uriInfo, AFTER_CONSTRAINT_PARAMETER, -1, -1);
         int max = ParametersHelper.getIntegerParameter(httpHeaders, uriInfo, MAX, Integer.MAX_VALUE, Integer.MAX_VALUE);
 
         searchParams.setCaseSensitive(caseSensitive);
         if (from != -1) {
             searchParams.setSearchFrom(from);
         }
+        if (after != -1) {
+            searchParams.setSearchAfter(after);
+        }
         searchParams.setMaxCount(max);
         return searchParams;
     }
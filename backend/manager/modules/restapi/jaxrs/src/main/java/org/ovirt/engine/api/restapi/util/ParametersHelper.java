@@ -180,6 +180,33 @@ public class ParametersHelper {
         }
     }
 
+    /**
+     * Returns the long value of the given parameter. If the parameter is present in the request but it doesn't have
+     * a value then the value of the {@code empty} parameter will be returned. If the matrix parameter isn't present, or
+     * has an invalid long value then the value of the {@code missing} parameter will be returned.
+     *
+     * @param headers the HTTP headers to extract the parameter from
+     * @param uri the URL to extract the parameter from
+     * @param name the name of the parameter
+     * @param empty the value that will be returned if the parameter is present but has no value
+     * @param missing the value that will be returned if the parameter isn't present or has in invalid long value
+     */
+    public static long getLongParameter(HttpHeaders headers, UriInfo uri, String name, long empty, long missing) {
+        String text = getParameter(headers, uri, name);
+        if (text == null) {
+            return missing;
+        }
+        if (text.isEmpty()) {
+            return empty;
+        }
+        try {
+            return Long.parseLong(text);
+        } catch(NumberFormatException exception) {
+            log.error("The value \"{}\" of parameter \"{}\" isn't a valid long, it will be ignored.", text, name);
+            return missing;
+        }
+    }
+
     /**
      * Set a parameter in the parameters map.
      */
@@ -887,6 +887,12 @@ public class SyntaxChecker implements ISyntaxChecker {
                 whereBuilder.add("not deleted");
             }
 
+            // keyset pagination: continue right after the last row of the previous page instead of skipping rows
+            String seekCondition = getSeekCondition(syntax, searchObjStr, sortByElements == null, useTags);
+            if (seekCondition != null) {
+                whereBuilder.add(seekCondition);
+            }
+
             // adding WHERE if required and All implicit AND
             StringBuilder wherePhrase = new StringBuilder();
             if (whereBuilder.size() > 0) {
@@ -906,7 +912,7 @@ public class SyntaxChecker implements ISyntaxChecker {
                 sortByPhrase = " ORDER BY " + searchObjectAC.getDefaultSort(searchObjStr);
             }
             // adding the paging phrase
-            String pagePhrase = getPagePhrase(syntax, pageNumber);
+            String pagePhrase = getPagePhrase(syntax, seekCondition != null ? "" : pageNumber);
             String primeryKey = searchObjectAC.getPrimeryKeyName(searchObjStr);
             String tableName = searchObjectAC.getRelatedTableName(searchObjStr, useTags);
             boolean usingDistinct = searchObjectAC.isUsingDistinct(searchObjStr);
@@ -955,6 +961,32 @@ public class SyntaxChecker implements ISyntaxChecker {
         return retval;
     }
 
+    /**
+     * Returns the keyset (seek) condition selecting the rows that follow the row whose primary key is
+     * {@link SyntaxContainer#getSearchAfter()}, or {@code null} if no such condition should be applied. Seeking is
+     * possible only when the search is ordered by the default sort of the entity and that sort is on its primary key
+     * (e.g. events), otherwise the regular paging is used.
+     */
+    private String getSeekCondition(SyntaxContainer syntax, String searchObjStr, boolean defaultSort, boolean useTags) {
+        if (syntax.getSearchAfter() <= 0) {
+            return null;
+        }
+        String primaryKey = searchObjectAC.getPrimeryKeyName(searchObjStr);
+        String[] sortParts = searchObjectAC.getDefaultSort(searchObjStr).trim().split("\\s+");
+        if (!defaultSort || primaryKey == null || !primaryKey.equalsIgnoreCase(sortParts[0])) {
+            log.debug("Search on '{}' is not ordered by its primary key, ignoring the 'after' value {}",
+                    searchObjStr,
+                    syntax.getSearchAfter());
+            return null;
+        }
+        boolean descending = sortParts.length > 1 && "DESC".equalsIgnoreCase(sortParts[1]);
+        return StringFormat.format(" %1$s.%2$s %3$s %4$s ",
+                searchObjectAC.getRelatedTableName(searchObjStr, useTags),
+                primaryKey,
+                descending ? "<" : ">",
+                syntax.getSearchAfter());
+    }
+
     private String getInnerQuery(String tableName, String primeryKey, String fromStatement, StringBuilder wherePhrase, StringBuilder sortExpr, boolean useDistinct) {
         // prevent using distinct when the sort expression has a function call since when distinct is used it is performed first and sorting
         // is done on the result, so all fields in the sort clause should appear in the result set after distinct is applied
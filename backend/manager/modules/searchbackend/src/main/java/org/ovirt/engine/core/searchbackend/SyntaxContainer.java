@@ -18,6 +18,7 @@ public class SyntaxContainer implements Iterable<SyntaxObject> {
     private final int[] errorPos = new int[2];
     private int privateMaxCount;
     private long searchFrom = 0;
+    private long searchAfter = 0;
     private boolean caseSensitive=true;
 
     /**
@@ -56,6 +57,14 @@ public class SyntaxContainer implements Iterable<SyntaxObject> {
         searchFrom = value;
     }
 
+    public long getSearchAfter() {
+        return searchAfter;
+    }
+
+    public void setSearchAfter(long value) {
+        searchAfter = value;
+    }
+
     public boolean getvalid() {
         return valid;
     }
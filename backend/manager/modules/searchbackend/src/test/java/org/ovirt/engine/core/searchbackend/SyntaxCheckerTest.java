@@ -243,6 +243,20 @@ public class SyntaxCheckerTest {
 
     }
 
+    @Test
+    public void testEventsSearchAfter() {
+        testValidSql("Events: ",
+                100,
+                "SELECT * FROM ((SELECT  audit_log.* FROM  audit_log   WHERE not deleted AND  audit_log.audit_log_id < 100 )  ORDER BY audit_log_id DESC ) as T1 OFFSET (1 -1) LIMIT 0");
+        testValidSql("Events: severity=error page 500",
+                100,
+                "SELECT * FROM ((SELECT  audit_log.* FROM  audit_log   WHERE  audit_log.severity = '2'  AND not deleted AND  audit_log.audit_log_id < 100 )  ORDER BY audit_log_id DESC ) as T1 OFFSET (1 -1) LIMIT 0");
+        // sorting by another field than the primary key falls back to the regular paging
+        testValidSql("Vms: sortby cpu_usage desc",
+                100,
+                "SELECT * FROM ((SELECT  vms.* FROM  vms  )  ORDER BY usage_cpu_percent DESC NULLS LAST,vm_name ASC ) as T1 OFFSET (1 -1) LIMIT 0");
+    }
+
     @Test
     public void testTemplate() {
         testValidSql("Template: ",
@@ -529,9 +543,14 @@ public class SyntaxCheckerTest {
     }
 
     private void testValidSql(String dynamicQuery, String exepctedSQLResult) {
+        testValidSql(dynamicQuery, 0, exepctedSQLResult);
+    }
+
+    private void testValidSql(String dynamicQuery, long searchAfter, String exepctedSQLResult) {
         SyntaxChecker chkr = new SyntaxChecker();
         ISyntaxChecker curSyntaxChecker = SyntaxCheckerFactory.createBackendSyntaxChecker("foo");
         SyntaxContainer res = curSyntaxChecker.analyzeSyntaxState(dynamicQuery, true);
+        res.setSearchAfter(searchAfter);
         assertTrue(res.getvalid(), "Invalid syntax: " + dynamicQuery);
         String query = chkr.generateQueryFromSyntaxContainer(res, true);
         assertEquals(exepctedSQLResult, query);
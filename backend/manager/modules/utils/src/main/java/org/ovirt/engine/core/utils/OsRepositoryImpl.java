@@ -8,6 +8,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.prefs.BackingStoreException;
 import java.util.prefs.Preferences;
 import java.util.stream.Collectors;
@@ -52,6 +53,12 @@ public enum OsRepositoryImpl implements OsRepository {
      */
     private Map<Integer, String> idToUnameLookup;
     private Map<String, Integer> backwardCompatibleNamesToIds;
+    /**
+     * the values already looked up in the configuration tree, by os unique name, key path and version. the tree is not
+     * modified once loaded, while looking a value up walks the nodes of the os and the ones it is derived from, which
+     * is repeated for the same few keys each time a vm is started.
+     */
+    private final Map<String, String> valuesByVersionedPath = new ConcurrentHashMap<>();
     private static Map<ArchitectureType, Integer> defaultOsMap = new HashMap<>(3);
 
     static {
@@ -62,6 +69,7 @@ public enum OsRepositoryImpl implements OsRepository {
 
     public void init(MapBackedPreferences preferences) {
         INSTANCE.preferences = preferences;
+        valuesByVersionedPath.clear();
         emptyNode = preferences.node("emptyNode");
         buildIdToUnameLookup();
         buildBackCompatMapping();
@@ -673,6 +681,12 @@ public enum OsRepositoryImpl implements OsRepository {
      * {@link OsRepositoryImpl#getKeyNode}
      */
     private String getValueByVersion(String uniqueOsName, String relativeKeyPath, Version version) {
+        String versionedPath = uniqueOsName + "/" + relativeKeyPath + "/" + versionedValuePath(version);
+        return valuesByVersionedPath.computeIfAbsent(versionedPath,
+                path -> lookupValueByVersion(uniqueOsName, relativeKeyPath, version));
+    }
+
+    private String lookupValueByVersion(String uniqueOsName, String relativeKeyPath, Version version) {
         Preferences keyNode = getKeyNode(uniqueOsName, relativeKeyPath, version);
         if (keyNode == emptyNode) {
             version = null;
@@ -0,0 +1,44 @@
+package org.ovirt.engine.core.utils.ovf.xml;
+
+import javax.xml.namespace.NamespaceContext;
+import javax.xml.namespace.QName;
+import javax.xml.xpath.XPath;
+import javax.xml.xpath.XPathConstants;
+import javax.xml.xpath.XPathFactory;
+
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+/**
+ * Evaluates the XPath expressions of {@link XmlDocument} and {@link XmlNode}. Looking up an {@link XPathFactory}
+ * implementation is expensive and factories are not thread safe, so a factory is kept per thread rather than
+ * created on each evaluation.
+ */
+final class XPathEvaluator {
+
+    private static final ThreadLocal<XPathFactory> factory = ThreadLocal.withInitial(XPathFactory::newInstance);
+
+    private XPathEvaluator() {
+    }
+
+    static XmlNode selectSingleNode(Node node, String expression, NamespaceContext namespaceContext) {
+        Object o = evaluate(node, expression, namespaceContext, XPathConstants.NODE);
+        return o != null ? new XmlNode((Node) o) : null;
+    }
+
+    static XmlNodeList selectNodes(Node node, String expression, NamespaceContext namespaceContext) {
+        return new XmlNodeList((NodeList) evaluate(node, expression, namespaceContext, XPathConstants.NODESET));
+    }
+
+    private static Object evaluate(Node node, String expression, NamespaceContext namespaceContext, QName type) {
+        try {
+            XPath xPath = factory.get().newXPath();
+            if (namespaceContext != null) {
+                xPath.setNamespaceContext(namespaceContext);
+            }
+            return xPath.evaluate(expression, node, type);
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to evaluate xpath: " + expression, e);
+        }
+    }
+}
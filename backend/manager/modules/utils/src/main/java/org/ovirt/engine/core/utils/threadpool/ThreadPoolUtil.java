@@ -12,6 +12,8 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 import java.util.concurrent.FutureTask;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import javax.enterprise.concurrent.ManagedExecutorService;
 import javax.enterprise.concurrent.ManagedTask;
@@ -199,6 +201,35 @@ public class ThreadPoolUtil {
         return null;
     }
 
+    /**
+     * Executes the given tasks, at most <code>maxParallelTasks</code> of them at once, returning a list of results
+     * in the order of the tasks when all complete, in case of empty or null list a null will be return
+     */
+    public static <T> List<T> invokeAll(List<? extends Callable<T>> tasks, int maxParallelTasks) {
+        if (tasks == null || tasks.size() <= maxParallelTasks || maxParallelTasks <= 0) {
+            return invokeAll(tasks);
+        }
+
+        AtomicReferenceArray<T> results = new AtomicReferenceArray<>(tasks.size());
+        AtomicInteger nextTask = new AtomicInteger();
+        List<Callable<Void>> workers = new ArrayList<>();
+        for (int i = 0; i < maxParallelTasks; i++) {
+            workers.add(() -> {
+                for (int task = nextTask.getAndIncrement(); task < tasks.size(); task = nextTask.getAndIncrement()) {
+                    results.set(task, tasks.get(task).call());
+                }
+                return null;
+            });
+        }
+        invokeAll(workers);
+
+        List<T> resultList = new ArrayList<>();
+        for (int i = 0; i < results.length(); i++) {
+            resultList.add(results.get(i));
+        }
+        return resultList;
+    }
+
     public static void setExecutorService(ExecutorService managedExecutorService) {
         executor = managedExecutorService;
     }
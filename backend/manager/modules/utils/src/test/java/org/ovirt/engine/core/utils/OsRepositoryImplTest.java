@@ -243,6 +243,19 @@ public class OsRepositoryImplTest {
         assertEquals("sata", OsRepositoryImpl.INSTANCE.getCdInterface(777, null, ChipsetType.Q35));
     }
 
+    @Test
+    public void testValuesLookedUpAgainAfterInit() {
+        assertEquals("ide", OsRepositoryImpl.INSTANCE.getCdInterface(777, null, ChipsetType.I440FX));
+        preferences.node("/os/rhel7/devices/cdInterface").put("value", "scsi,q35/sata");
+        try {
+            OsRepositoryImpl.INSTANCE.init(preferences);
+            assertEquals("scsi", OsRepositoryImpl.INSTANCE.getCdInterface(777, null, ChipsetType.I440FX));
+        } finally {
+            preferences.node("/os/rhel7/devices/cdInterface").put("value", CD_INTERFACE);
+            OsRepositoryImpl.INSTANCE.init(preferences);
+        }
+    }
+
     @Test
     public void testIsTimezoneValueInteger() {
         assertFalse(OsRepositoryImpl.INSTANCE.isTimezoneValueInteger(777, null));
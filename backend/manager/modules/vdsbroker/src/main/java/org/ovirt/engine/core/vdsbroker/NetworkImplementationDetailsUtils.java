@@ -1,11 +1,13 @@
 package org.ovirt.engine.core.vdsbroker;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import javax.inject.Inject;
@@ -15,6 +17,7 @@ import org.apache.commons.lang.StringUtils;
 import org.ovirt.engine.core.bll.network.cluster.DefaultRouteUtil;
 import org.ovirt.engine.core.common.businessentities.Cluster;
 import org.ovirt.engine.core.common.businessentities.VdsStatic;
+import org.ovirt.engine.core.common.businessentities.network.DnsResolverConfiguration;
 import org.ovirt.engine.core.common.businessentities.network.HostNetworkQos;
 import org.ovirt.engine.core.common.businessentities.network.Network;
 import org.ovirt.engine.core.common.businessentities.network.NetworkAttachment;
@@ -63,20 +66,70 @@ public class NetworkImplementationDetailsUtils {
         this.defaultRouteUtil = Objects.requireNonNull(defaultRouteUtil);
     }
 
+    /**
+     * Finds the interfaces of the hosts of the given cluster whose networks are out of sync.<br>
+     * The data needed for the check is loaded once per cluster, network or host rather than once per interface, since
+     * clusters may have hundreds of hosts: the network attachments are loaded per host, the base nics of vlans are
+     * taken from the loaded interfaces and the reported DNS configuration is loaded only for the hosts of the default
+     * route network, the only one it is compared to.
+     */
     public Set<VdsNetworkInterface> getAllInterfacesOutOfSync(Guid clusterId) {
         Map<String, Network> clusterNetworksByName = networkDao.getNetworksForCluster(clusterId);
         Map<Guid, HostNetworkQos> qosByNetworkId = calcQosByNetworkIdMap(clusterNetworksByName.values());
+        Map<Guid, Boolean> defaultRouteByNetworkId = new HashMap<>();
         Cluster cluster = clusterDao.get(clusterId);
-        return interfaceDao.getAllInterfacesByClusterId(clusterId)
+        List<VdsNetworkInterface> clusterInterfaces = interfaceDao.getAllInterfacesByClusterId(clusterId);
+        Map<Guid, Map<String, VdsNetworkInterface>> interfacesByNameByHostId = clusterInterfaces.stream()
+                .collect(Collectors.groupingBy(VdsNetworkInterface::getVdsId,
+                        Collectors.toMap(VdsNetworkInterface::getName, Function.identity(), (a, b) -> a)));
+        Map<Guid, Map<Guid, List<NetworkAttachment>>> attachmentsByNicIdByHostId = new HashMap<>();
+        Map<Guid, DnsResolverConfiguration> dnsResolverConfigurationByHostId = new HashMap<>();
+
+        return clusterInterfaces
                 .stream()
+                .filter(iface -> StringUtils.isNotEmpty(iface.getNetworkName()))
                 .filter(iface -> clusterNetworksByName.get(iface.getNetworkName()) != null)
                 .filter(iface -> {
+                    Guid hostId = iface.getVdsId();
                     Network network = clusterNetworksByName.get(iface.getNetworkName());
-                    HostNetworkQos qos = qosByNetworkId.get(network.getId());
-                    return isNetworkOutOfSync(iface, network, cluster, qos);
+                    VdsNetworkInterface baseNic =
+                            calculateBaseNic.getBaseNic(iface, interfacesByNameByHostId.get(hostId));
+                    NetworkAttachment networkAttachment = findNetworkAttachment(
+                            attachmentsByNicIdByHostId.computeIfAbsent(hostId, this::getNetworkAttachmentsByNicId),
+                            baseNic,
+                            network);
+                    boolean defaultRouteNetwork = defaultRouteByNetworkId.computeIfAbsent(network.getId(),
+                            networkId -> defaultRouteUtil.isDefaultRouteNetwork(networkId, clusterId));
+                    DnsResolverConfiguration reportedDnsResolverConfiguration = defaultRouteNetwork
+                            ? dnsResolverConfigurationByHostId.computeIfAbsent(hostId, dnsResolverConfigurationDao::get)
+                            : null;
+                    HostNetworkQos qos = effectiveHostNetworkQos.selectQos(networkAttachment,
+                            qosByNetworkId.get(network.getId()));
+                    return !new NetworkInSyncWithVdsNetworkInterface(iface,
+                            network,
+                            qos,
+                            networkAttachment,
+                            reportedDnsResolverConfiguration,
+                            cluster,
+                            defaultRouteNetwork).isNetworkInSync();
                 })
                 .collect(Collectors.toSet());
+    }
 
+    private Map<Guid, List<NetworkAttachment>> getNetworkAttachmentsByNicId(Guid hostId) {
+        return networkAttachmentDao.getAllForHost(hostId)
+                .stream()
+                .collect(Collectors.groupingBy(NetworkAttachment::getNicId));
+    }
+
+    private NetworkAttachment findNetworkAttachment(Map<Guid, List<NetworkAttachment>> attachmentsByNicId,
+            VdsNetworkInterface baseNic,
+            Network network) {
+        return attachmentsByNicId.getOrDefault(baseNic.getId(), Collections.emptyList())
+                .stream()
+                .filter(attachment -> network.getId().equals(attachment.getNetworkId()))
+                .findFirst()
+                .orElse(null);
     }
 
     private Map<Guid, HostNetworkQos> calcQosByNetworkIdMap(Collection<Network> networks) {
@@ -89,14 +142,6 @@ public class NetworkImplementationDetailsUtils {
         return qosByNetworkId;
     }
 
-    private boolean isNetworkOutOfSync(VdsNetworkInterface iface, Network network, Cluster cluster, HostNetworkQos hostNetworkQos) {
-        return isNetworkOutOfSync(calculateNetworkImplementationDetails(iface, network, cluster, hostNetworkQos));
-    }
-
-    private boolean isNetworkOutOfSync(NetworkImplementationDetails details) {
-        return details != null && details.isManaged() && !details.isInSync();
-    }
-
     /**
      * Fill network details for the given network devices from the given networks.<br>
      * {@link NetworkImplementationDetails#isInSync()} will be <code>true</code> IFF the logical network
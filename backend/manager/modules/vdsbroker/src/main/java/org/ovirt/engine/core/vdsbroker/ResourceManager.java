@@ -8,6 +8,9 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 import javax.annotation.PostConstruct;
@@ -76,6 +79,8 @@ public class ResourceManager implements BackendService {
     private static final Logger log = LoggerFactory.getLogger(ResourceManager.class);
     private int parallelism = Config.getValue(ConfigValues.EventProcessingPoolSize);
     private int eventTimeoutInHours = Config.getValue(ConfigValues.EventPurgeTimeoutInHours);
+    private final AtomicLong hostRefreshesSecond = new AtomicLong();
+    private final AtomicInteger hostRefreshesInSecond = new AtomicInteger();
 
     private HostMonitoringWatchdog hostMonitoringWatchdog;
 
@@ -226,6 +231,22 @@ public class ResourceManager implements BackendService {
         return getVdsManager(vdsId, false);
     }
 
+    /**
+     * Accounts for a scheduled host refresh in the global budget of host refreshes per second.
+     *
+     * @return whether the refresh fits in the budget of VdsMaxRefreshesPerSecond, always true when it is 0
+     */
+    public boolean tryAcquireHostRefresh() {
+        int maxRefreshesPerSecond = Config.<Integer> getValue(ConfigValues.VdsMaxRefreshesPerSecond);
+        long currentSecond = TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis());
+        long second = hostRefreshesSecond.get();
+        if (second != currentSecond && hostRefreshesSecond.compareAndSet(second, currentSecond)) {
+            int refreshes = hostRefreshesInSecond.getAndSet(0);
+            log.debug("Host refreshes in second {}: {}", second, refreshes);
+        }
+        return hostRefreshesInSecond.incrementAndGet() <= maxRefreshesPerSecond || maxRefreshesPerSecond <= 0;
+    }
+
     public VdsManager getVdsManager(Guid vdsId, boolean newHost) {
         VdsManager vdsManger = vdsManagersDict.get(vdsId);
         if (vdsManger == null) {
@@ -12,6 +12,7 @@ import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
 
@@ -77,6 +78,7 @@ import org.ovirt.engine.core.vdsbroker.kubevirt.PrometheusUrlResolver;
 import org.ovirt.engine.core.vdsbroker.monitoring.HostConnectionRefresherInterface;
 import org.ovirt.engine.core.vdsbroker.monitoring.HostMonitoring;
 import org.ovirt.engine.core.vdsbroker.monitoring.HostMonitoringInterface;
+import org.ovirt.engine.core.vdsbroker.monitoring.HostStatisticsFingerprint;
 import org.ovirt.engine.core.vdsbroker.monitoring.MonitoringStrategy;
 import org.ovirt.engine.core.vdsbroker.monitoring.MonitoringStrategyFactory;
 import org.ovirt.engine.core.vdsbroker.monitoring.RefresherFactory;
@@ -184,6 +186,17 @@ public class VdsManager {
     private List<VdsCpuUnit> cpuTopology;
     private int maxRunningVmsSharedCoresCount;
     private int vmsSharedCpusCount;
+    private final AtomicLong vmsListVersion = new AtomicLong();
+    private long adaptiveRefreshInterval;
+    private long lastScheduledRefreshTime;
+    private VDSStatus lastScheduledRefreshStatus;
+    private long lastScheduledRefreshVmsListVersion;
+    private long scheduledRefreshesCount;
+    private long skippedRefreshesCount;
+    private volatile HostStatisticsFingerprint lastSavedStatistics;
+    private long lastStatisticsSaveTime;
+    private long savedStatisticsCount;
+    private long skippedStatisticsCount;
 
     VdsManager(VDS vds, ResourceManager resourceManager) {
         this.resourceManager = resourceManager;
@@ -279,6 +292,9 @@ public class VdsManager {
 
     public void refresh() {
         try {
+            if (isRefreshDeferred(System.currentTimeMillis())) {
+                return;
+            }
             refreshImpl();
         } catch (Throwable t) {
             log.error("Timer update runtime info failed. Exception: {}", ExceptionUtils.getRootCauseMessage(t));
@@ -286,6 +302,54 @@ public class VdsManager {
         }
     }
 
+    /**
+     * When adaptive host monitoring is enabled (VdsMaxAdaptiveRefreshRate is greater than VdsRefreshRate), the
+     * refresh interval of a host that is Up and whose status and VMs didn't change since its previous refresh is
+     * doubled on each refresh, up to VdsMaxAdaptiveRefreshRate. Any change resets the interval to VdsRefreshRate.
+     * Stable hosts are also deferred when the global budget of host refreshes per second is exhausted, unless they
+     * were not refreshed for VdsMaxAdaptiveRefreshRate, so that each host is still refreshed at least that often.
+     *
+     * @return whether the scheduled refresh of the host should be skipped
+     */
+    boolean isRefreshDeferred(long now) {
+        long refreshRate = TimeUnit.SECONDS.toMillis(Config.<Long> getValue(ConfigValues.VdsRefreshRate));
+        long maxRefreshRate =
+                TimeUnit.SECONDS.toMillis(Config.<Integer> getValue(ConfigValues.VdsMaxAdaptiveRefreshRate));
+        if (maxRefreshRate <= refreshRate || cachedVds == null) {
+            return false;
+        }
+
+        VDSStatus status = cachedVds.getStatus();
+        long vmsListVersion = this.vmsListVersion.get();
+        boolean stable = status == VDSStatus.Up
+                && status == lastScheduledRefreshStatus
+                && vmsListVersion == lastScheduledRefreshVmsListVersion;
+        if (stable) {
+            long sinceLastRefresh = now - lastScheduledRefreshTime;
+            if (sinceLastRefresh < adaptiveRefreshInterval
+                    || !resourceManager.tryAcquireHostRefresh() && sinceLastRefresh < maxRefreshRate) {
+                skippedRefreshesCount++;
+                return true;
+            }
+            adaptiveRefreshInterval = Math.min(Math.max(adaptiveRefreshInterval, refreshRate) * 2, maxRefreshRate);
+        } else {
+            resourceManager.tryAcquireHostRefresh();
+            adaptiveRefreshInterval = refreshRate;
+        }
+
+        scheduledRefreshesCount++;
+        log.debug("[{}] Refreshing {} host, next refresh in {} ms (refreshes: {}, skipped: {})",
+                cachedVds.getHostName(),
+                stable ? "stable" : "changed",
+                adaptiveRefreshInterval,
+                scheduledRefreshesCount,
+                skippedRefreshesCount);
+        lastScheduledRefreshTime = now;
+        lastScheduledRefreshStatus = status;
+        lastScheduledRefreshVmsListVersion = vmsListVersion;
+        return false;
+    }
+
     public void refreshImpl() {
         boolean releaseLock = true;
         log.debug("Before acquiring monitor lock for scheduled host refresh");
@@ -421,7 +485,8 @@ public class VdsManager {
     }
 
     /**
-     * @return a safe copy of the internal VDS. mutating it must not affect internal.
+     * @return a safe copy of the internal VDS. mutating it must not affect internal. Callers that only need to read
+     * a single field should rather use the corresponding getter of the manager, which doesn't copy the whole VDS.
      */
     public VDS getCopyVds() {
         return cachedVds.clone();
@@ -443,6 +508,14 @@ public class VdsManager {
         return cachedVds.getVdsType();
     }
 
+    public Guid getStoragePoolId() {
+        return cachedVds.getStoragePoolId();
+    }
+
+    public boolean isBalloonEnabled() {
+        return cachedVds.isBalloonEnabled();
+    }
+
     private void logFailureMessage(RuntimeException ex) {
         log.warn(
                 "Failed to refresh VDS , vds = '{}' : '{}', error = '{}', continuing.",
@@ -545,7 +618,17 @@ public class VdsManager {
      * Save statistics data to cache and DB.
      */
     public void updateStatisticsData(VdsStatistics statisticsData) {
-        vdsStatisticsDao.update(statisticsData);
+        lastSavedStatistics = null;
+        updateStatisticsData(statisticsData, true);
+    }
+
+    /**
+     * Save statistics data to cache and, if requested, to DB.
+     */
+    public void updateStatisticsData(VdsStatistics statisticsData, boolean saveToDb) {
+        if (saveToDb) {
+            vdsStatisticsDao.update(statisticsData);
+        }
         cachedVds.setStatisticsData(statisticsData);
 
         statisticsData.getCpuCoreStatistics().stream().forEach(statistics -> {
@@ -555,6 +638,34 @@ public class VdsManager {
         });
     }
 
+    /**
+     * Checks whether the statistics of the host, its interfaces and its NUMA nodes changed by more than
+     * VdsStatisticsSignificantChangeThreshold since they were last saved, or were not saved for
+     * VdsStatisticsMaxSaveIntervalInSeconds. When they did, they are expected to be saved by the caller.
+     */
+    public boolean isStatisticsSaveNeeded(VDS vds) {
+        HostStatisticsFingerprint statistics = new HostStatisticsFingerprint(vds);
+        long now = System.currentTimeMillis();
+        long maxSaveInterval = TimeUnit.SECONDS.toMillis(
+                Config.<Integer> getValue(ConfigValues.VdsStatisticsMaxSaveIntervalInSeconds));
+        boolean saveNeeded = now - lastStatisticsSaveTime >= maxSaveInterval
+                || statistics.isSignificantlyChangedFrom(lastSavedStatistics,
+                        Config.<Integer> getValue(ConfigValues.VdsStatisticsSignificantChangeThreshold));
+        if (saveNeeded) {
+            lastSavedStatistics = statistics;
+            lastStatisticsSaveTime = now;
+            savedStatisticsCount++;
+        } else {
+            skippedStatisticsCount++;
+        }
+        log.debug("[{}] Host statistics {} (saved: {}, skipped: {})",
+                vds.getHostName(),
+                saveNeeded ? "changed" : "unchanged",
+                savedStatisticsCount,
+                skippedStatisticsCount);
+        return saveNeeded;
+    }
+
     /**
      * Publish the current pending resource summary. This method also refreshes the committed
      * memory for the host to make the operation atomic.
@@ -1209,10 +1320,14 @@ public class VdsManager {
      * This method is not thread safe
      */
     public void setLastVmsList(Map<Guid, VMStatus> lastVmsList) {
+        if (!this.lastVmsList.equals(lastVmsList)) {
+            vmsListVersion.incrementAndGet();
+        }
         this.lastVmsList = lastVmsList;
     }
 
     public void addVmsToLastVmsList(Map<Guid, VMStatus> additionalVmsList) {
+        vmsListVersion.incrementAndGet();
         try {
             this.lastVmsList.putAll(additionalVmsList);
         } catch (UnsupportedOperationException e) {
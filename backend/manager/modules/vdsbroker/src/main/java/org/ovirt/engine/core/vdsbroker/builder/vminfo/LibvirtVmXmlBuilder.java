@@ -26,7 +26,6 @@ import org.ovirt.engine.core.common.businessentities.ArchitectureType;
 import org.ovirt.engine.core.common.businessentities.BiosType;
 import org.ovirt.engine.core.common.businessentities.ChipsetType;
 import org.ovirt.engine.core.common.businessentities.DisplayType;
-import org.ovirt.engine.core.common.businessentities.Entities;
 import org.ovirt.engine.core.common.businessentities.GraphicsInfo;
 import org.ovirt.engine.core.common.businessentities.GraphicsType;
 import org.ovirt.engine.core.common.businessentities.HostDevice;
@@ -152,6 +151,7 @@ public class LibvirtVmXmlBuilder {
     private Map<String, Map<String, String>> diskMetadata;
     private Map<String, Map<String, String>> mdevMetadata;
     private Pair<String, VmPayload> payloadMetadata;
+    private Map<Guid, VnicProfile> vnicProfilesById = new HashMap<>();
 
     private List<Pair<Guid, Guid>> volumeLeases = Collections.emptyList();
 
@@ -1434,7 +1434,6 @@ public class LibvirtVmXmlBuilder {
     private void writeInterfaces(List<VmDevice> devices) {
         Map<VmDeviceId, VmNetworkInterface> devIdToNic = vm.getInterfaces().stream()
                 .collect(Collectors.toMap(nic -> new VmDeviceId(nic.getId(), nic.getVmId()), nic -> nic));
-        Map<Guid, VnicProfile> vnicProfilesById = Entities.businessEntitiesById(vmInfoBuildUtils.getAllVnicProfiles());
 
         devices.stream()
                 .sorted(Comparator.comparing(dev -> devIdToNic.get(dev.getId()).getMacAddress()))
@@ -1442,7 +1441,7 @@ public class LibvirtVmXmlBuilder {
                             var nic = devIdToNic.get(dev.getId());
                             writeInterface(dev, nic);
 
-                            var vnicProfile = vnicProfilesById.get(nic.getVnicProfileId());
+                            var vnicProfile = getVnicProfile(nic.getVnicProfileId());
                             if (vnicProfile != null && vnicProfile.getFailoverVnicProfileId() != null) {
                                 writeFailoverInterface(vnicProfile.getFailoverVnicProfileId(), nic.getMacAddress());
                             }
@@ -1451,6 +1450,14 @@ public class LibvirtVmXmlBuilder {
 
     }
 
+    /**
+     * The profiles of the nics are looked up one by one, rather than all the profiles of the system at once, and each
+     * of them only once per build.
+     */
+    private VnicProfile getVnicProfile(Guid vnicProfileId) {
+        return vnicProfilesById.computeIfAbsent(vnicProfileId, vmInfoBuildUtils::getVnicProfile);
+    }
+
     private void writeFailoverInterface(Guid failoverId, String macAddress) {
         var failoverDevice = VmDeviceCommonUtils.createFailoverVmDevice(failoverId, vm.getId());
         var failoverNic = VmDeviceCommonUtils.createFailoverVmNic(failoverId, vm.getId(), macAddress);
@@ -2748,7 +2755,7 @@ public class LibvirtVmXmlBuilder {
         //  </interface>
         writer.writeStartElement("interface");
 
-        VnicProfile vnicProfile = vmInfoBuildUtils.getVnicProfile(nic.getVnicProfileId());
+        VnicProfile vnicProfile = getVnicProfile(nic.getVnicProfileId());
         Network network = vnicProfile != null ? vmInfoBuildUtils.getNetwork(vnicProfile.getNetworkId()) : null;
         boolean networkless = network == null;
         boolean hasFailover = vnicProfile != null && vnicProfile.getFailoverVnicProfileId() != null;
@@ -9,6 +9,7 @@ import java.util.stream.Collectors;
 import javax.inject.Inject;
 
 import org.apache.commons.lang.exception.ExceptionUtils;
+import org.ovirt.engine.core.common.businessentities.VDS;
 import org.ovirt.engine.core.common.businessentities.VMStatus;
 import org.ovirt.engine.core.common.businessentities.VmDynamic;
 import org.ovirt.engine.core.common.utils.Pair;
@@ -85,32 +86,41 @@ public class EventVmStatsRefresher extends VmStatsRefresher {
             @SuppressWarnings("unchecked")
             private List<Pair<VmDynamic, VdsmVm>> convertEvent(Map<String, Object> map) {
                 Double notifyTime = vdsBrokerObjectsBuilder.removeNotifyTimeFromVmStatusEvent(map);
+                // a single copy of the host is shared by all the VMs of the event
+                VDS host = vdsManager.getCopyVds();
                 return map.entrySet().stream()
                         .map(idToMap -> toMonitoredVm(
                                 new Guid(idToMap.getKey()),
                                 (Map<String, Object>) idToMap.getValue(),
-                                notifyTime))
+                                notifyTime,
+                                host))
                         .collect(Collectors.toList());
             }
 
-            private Pair<VmDynamic, VdsmVm> toMonitoredVm(Guid vmId, Map<String, Object> vmMap, Double notifyTime) {
+            private Pair<VmDynamic, VdsmVm> toMonitoredVm(Guid vmId,
+                    Map<String, Object> vmMap,
+                    Double notifyTime,
+                    VDS host) {
                 VmDynamic dbVm = vmDynamicDao.get(vmId);
                 VdsmVm vdsmVm = dbVm == null ?
-                        createVdsmVm(vmId, vmMap, notifyTime)
-                        : createVdsmVm(dbVm, vmMap, notifyTime);
+                        createVdsmVm(vmId, vmMap, notifyTime, host)
+                        : createVdsmVm(dbVm, vmMap, notifyTime, host);
                 return new Pair<>(dbVm, vdsmVm);
             }
 
-            private VdsmVm createVdsmVm(Guid vmId, Map<String, Object> struct, Double notifyTime) {
+            private VdsmVm createVdsmVm(Guid vmId, Map<String, Object> struct, Double notifyTime, VDS host) {
                 VmDynamic fakeVm = new VmDynamic();
                 fakeVm.setId(vmId);
-                return createVdsmVm(fakeVm, struct, notifyTime);
+                return createVdsmVm(fakeVm, struct, notifyTime, host);
             }
 
-            private VdsmVm createVdsmVm(VmDynamic dbVmDynamic, Map<String, Object> struct, Double notifyTime) {
+            private VdsmVm createVdsmVm(VmDynamic dbVmDynamic,
+                    Map<String, Object> struct,
+                    Double notifyTime,
+                    VDS host) {
                 // send a clone of vm dynamic to be overridden with new data
                 VmDynamic clonedVmDynamic = new VmDynamic(dbVmDynamic);
-                vdsBrokerObjectsBuilder.updateVMDynamicData(clonedVmDynamic, struct, vdsManager.getCopyVds());
+                vdsBrokerObjectsBuilder.updateVMDynamicData(clonedVmDynamic, struct, host);
                 return new VdsmVm(notifyTime)
                         .setVmDynamic(clonedVmDynamic)
                         .setDevicesHash(vdsBrokerObjectsBuilder.getVmDevicesHash(struct));
@@ -266,24 +266,27 @@ public class HostMonitoring implements HostMonitoringInterface {
 
         if (saveVdsStatistics) {
             VdsStatistics stat = vds.getStatisticsData();
-            vdsManager.updateStatisticsData(stat);
+            boolean saveStatisticsToDb = vdsManager.isStatisticsSaveNeeded(vds);
+            vdsManager.updateStatisticsData(stat, saveStatisticsToDb);
             checkVdsMemoryThreshold(clusterDao.get(vds.getClusterId()), stat);
             checkVdsCpuThreshold(stat);
             checkVdsNetworkThreshold();
             checkVdsSwapThreshold(stat);
 
-            final List<VdsNetworkStatistics> statistics = new LinkedList<>();
-            for (VdsNetworkInterface iface : vds.getInterfaces()) {
-                statistics.add(iface.getStatistics());
-            }
-            if (!statistics.isEmpty()) {
-                TransactionSupport.executeInScope(TransactionScopeOption.Required,
-                        () -> {
-                            interfaceDao.massUpdateStatisticsForVds(statistics);
-                            return null;
-                        });
+            if (saveStatisticsToDb) {
+                final List<VdsNetworkStatistics> statistics = new LinkedList<>();
+                for (VdsNetworkInterface iface : vds.getInterfaces()) {
+                    statistics.add(iface.getStatistics());
+                }
+                if (!statistics.isEmpty()) {
+                    TransactionSupport.executeInScope(TransactionScopeOption.Required,
+                            () -> {
+                                interfaceDao.massUpdateStatisticsForVds(statistics);
+                                return null;
+                            });
+                }
+                saveNumaStatisticsDataToDb();
             }
-            saveNumaStatisticsDataToDb();
         }
     }
 
@@ -0,0 +1,139 @@
+package org.ovirt.engine.core.vdsbroker.monitoring;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.ovirt.engine.core.common.businessentities.CpuStatistics;
+import org.ovirt.engine.core.common.businessentities.NumaNodeStatistics;
+import org.ovirt.engine.core.common.businessentities.VDS;
+import org.ovirt.engine.core.common.businessentities.VdsNumaNode;
+import org.ovirt.engine.core.common.businessentities.VdsStatistics;
+import org.ovirt.engine.core.common.businessentities.network.NetworkStatistics;
+import org.ovirt.engine.core.common.businessentities.network.VdsNetworkInterface;
+
+/**
+ * The values of the statistics of a host, its interfaces and its NUMA nodes that are saved to the database, used to
+ * decide whether the statistics changed enough since they were last saved to be worth saving again.
+ *
+ * Usages, given in percents, are compared by their absolute difference in percentage points while amounts (memory,
+ * load, rates and counters) are compared by their difference relative to the previous value. All the other values
+ * must be equal.
+ */
+public class HostStatisticsFingerprint {
+
+    private final List<Object> exactValues = new ArrayList<>();
+    private final List<Double> usages = new ArrayList<>();
+    private final List<Double> amounts = new ArrayList<>();
+
+    public HostStatisticsFingerprint(VDS vds) {
+        VdsStatistics statistics = vds.getStatisticsData();
+        if (statistics != null) {
+            addStatistics(statistics);
+        }
+        if (vds.getInterfaces() != null) {
+            for (VdsNetworkInterface iface : vds.getInterfaces()) {
+                addInterfaceStatistics(iface.getStatistics());
+            }
+        }
+        if (vds.getNumaNodeList() != null) {
+            for (VdsNumaNode node : vds.getNumaNodeList()) {
+                addNumaNodeStatistics(node.getNumaNodeStatistics());
+            }
+        }
+    }
+
+    private void addStatistics(VdsStatistics statistics) {
+        exactValues.add(statistics.getKsmState());
+        exactValues.add(statistics.getSwapTotal());
+        exactValues.add(statistics.getAnonymousHugePages());
+        exactValues.add(statistics.getHugePages() == null ? null : new ArrayList<>(statistics.getHugePages()));
+        exactValues.add(statistics.getBootTime());
+        exactValues.add(statistics.getHighlyAvailableScore());
+        exactValues.add(statistics.getHighlyAvailableIsConfigured());
+        exactValues.add(statistics.getHighlyAvailableIsActive());
+        exactValues.add(statistics.getHighlyAvailableGlobalMaintenance());
+        exactValues.add(statistics.getHighlyAvailableLocalMaintenance());
+        exactValues.add(statistics.getCpuOverCommitTimeStamp());
+
+        usages.add(toDouble(statistics.getCpuIdle()));
+        usages.add(toDouble(statistics.getCpuSys()));
+        usages.add(toDouble(statistics.getCpuUser()));
+        usages.add(toDouble(statistics.getUsageCpuPercent()));
+        usages.add(toDouble(statistics.getUsageMemPercent()));
+        usages.add(toDouble(statistics.getUsageNetworkPercent()));
+        usages.add(toDouble(statistics.getKsmCpuPercent()));
+
+        amounts.add(toDouble(statistics.getCpuLoad()));
+        amounts.add(toDouble(statistics.getMemFree()));
+        amounts.add(toDouble(statistics.getMemShared()));
+        amounts.add(toDouble(statistics.getSwapFree()));
+        amounts.add(toDouble(statistics.getKsmPages()));
+
+        if (statistics.getCpuCoreStatistics() != null) {
+            for (CpuStatistics cpu : statistics.getCpuCoreStatistics()) {
+                exactValues.add(cpu.getCpuId());
+                usages.add(cpu.getCpuSys());
+                usages.add(cpu.getCpuUser());
+                usages.add(cpu.getCpuIdle());
+                usages.add((double) cpu.getCpuUsagePercent());
+            }
+        }
+    }
+
+    private void addInterfaceStatistics(NetworkStatistics statistics) {
+        if (statistics == null) {
+            exactValues.add(null);
+            return;
+        }
+        exactValues.add(statistics.getId());
+        exactValues.add(statistics.getStatus());
+        amounts.add(toDouble(statistics.getReceiveRate()));
+        amounts.add(toDouble(statistics.getTransmitRate()));
+        amounts.add(toDouble(statistics.getReceivedBytes()));
+        amounts.add(toDouble(statistics.getTransmittedBytes()));
+        amounts.add(toDouble(statistics.getReceiveDrops()));
+        amounts.add(toDouble(statistics.getTransmitDrops()));
+    }
+
+    private void addNumaNodeStatistics(NumaNodeStatistics statistics) {
+        if (statistics == null) {
+            exactValues.add(null);
+            return;
+        }
+        usages.add(toDouble(statistics.getCpuUsagePercent()));
+        usages.add(toDouble(statistics.getMemUsagePercent()));
+        amounts.add(toDouble(statistics.getMemFree()));
+    }
+
+    /**
+     * @param threshold
+     *            the difference, in percents, above which a usage or an amount is considered significantly changed. 0
+     *            for considering any change as significant
+     * @return whether the given fingerprint, of the previously saved statistics, differs significantly from this one
+     */
+    public boolean isSignificantlyChangedFrom(HostStatisticsFingerprint previous, int threshold) {
+        if (previous == null
+                || !exactValues.equals(previous.exactValues)
+                || usages.size() != previous.usages.size()
+                || amounts.size() != previous.amounts.size()) {
+            return true;
+        }
+        for (int i = 0; i < usages.size(); i++) {
+            if (Math.abs(usages.get(i) - previous.usages.get(i)) > threshold) {
+                return true;
+            }
+        }
+        for (int i = 0; i < amounts.size(); i++) {
+            double current = amounts.get(i);
+            double last = previous.amounts.get(i);
+            if (Math.abs(current - last) > Math.abs(last) * threshold / 100) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static double toDouble(Number value) {
+        return value == null ? 0 : value.doubleValue();
+    }
+}
@@ -87,6 +87,9 @@ public class VmDevicesMonitoring {
 
         private long fetchTime;
 
+        /** Number of devices reported by VDSM that were compared to the DB in this change */
+        private int scannedDevices;
+
         private Change(long fetchTime) {
             this.fetchTime = fetchTime;
         }
@@ -229,12 +232,14 @@ public class VmDevicesMonitoring {
         public void flush() {
             List<Guid> vmIdsToProcess = getVmsToProcess();
             try {
+                long start = System.currentTimeMillis();
                 Map<String, Object>[] vmInfos = getVmInfo(vdsId, vmIdsToProcess);
                 if (vmInfos != null) {
                     Stream.of(vmInfos).forEach(this::processFullList);
                 }
                 getDevicesToProcess().forEach(device -> processDevice(this, device));
                 saveDevicesToDb(this);
+                logDevicesScanCost(System.currentTimeMillis() - start);
             } catch (RuntimeException ex) {
                 log.error("Failed during vm devices monitoring on host {} error is: {}", vdsId, ex);
                 log.error("Exception:", ex);
@@ -244,6 +249,22 @@ public class VmDevicesMonitoring {
             }
         }
 
+        private void logDevicesScanCost(long durationMs) {
+            if (scannedDevices == 0 && getDevicesToProcess().isEmpty() && getDeviceIdsToRemove().isEmpty()) {
+                return;
+            }
+
+            log.debug("Devices monitoring on host '{}' took {} ms: {} VMs fetched, {} devices scanned, "
+                            + "{} added, {} updated, {} removed",
+                    vdsId,
+                    durationMs,
+                    getVmsToProcess().size(),
+                    scannedDevices,
+                    getDevicesToAdd().size(),
+                    getDevicesToUpdate().size(),
+                    getDeviceIdsToRemove().size());
+        }
+
     }
 
     private static class DevicesStatus {
@@ -486,6 +507,7 @@ public class VmDevicesMonitoring {
                 deviceId = dbDevice != null ? dbDevice.getDeviceId() : deviceId;
             }
             String logicalName = getDeviceLogicalName(vmInfo, vdsmDevice);
+            change.scannedDevices++;
 
             if (deviceId == null || dbDevice == null) {
                 VmDevice newDevice = buildNewVmDevice(vmId, vdsmDevice, logicalName);
@@ -494,12 +516,22 @@ public class VmDevicesMonitoring {
                     processedDeviceIds.add(newDevice.getDeviceId());
                 }
             } else {
-                dbDevice.setPlugged(Boolean.TRUE);
-                dbDevice.setAddress(vdsmDevice.get(VdsProperties.Address).toString());
-                dbDevice.setAlias(StringUtils.defaultString((String) vdsmDevice.get(VdsProperties.Alias)));
-                dbDevice.setLogicalName(logicalName);
-                dbDevice.setHostDevice(StringUtils.defaultString((String) vdsmDevice.get(VdsProperties.HostDev)));
-                change.addDeviceToUpdate(dbDevice);
+                String address = vdsmDevice.get(VdsProperties.Address).toString();
+                String alias = StringUtils.defaultString((String) vdsmDevice.get(VdsProperties.Alias));
+                String hostDevice = StringUtils.defaultString((String) vdsmDevice.get(VdsProperties.HostDev));
+                // Only devices that were actually changed are written to the DB
+                if (!dbDevice.isPlugged()
+                        || !Objects.equals(dbDevice.getAddress(), address)
+                        || !Objects.equals(dbDevice.getAlias(), alias)
+                        || !Objects.equals(dbDevice.getLogicalName(), logicalName)
+                        || !Objects.equals(StringUtils.defaultString(dbDevice.getHostDevice()), hostDevice)) {
+                    dbDevice.setPlugged(Boolean.TRUE);
+                    dbDevice.setAddress(address);
+                    dbDevice.setAlias(alias);
+                    dbDevice.setLogicalName(logicalName);
+                    dbDevice.setHostDevice(hostDevice);
+                    change.addDeviceToUpdate(dbDevice);
+                }
                 processedDeviceIds.add(deviceId);
             }
         }
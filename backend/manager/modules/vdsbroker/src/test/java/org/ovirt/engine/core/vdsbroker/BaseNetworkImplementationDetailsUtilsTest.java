@@ -3,9 +3,13 @@ package org.ovirt.engine.core.vdsbroker;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 
+import java.util.Collections;
+import java.util.Set;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -240,6 +244,34 @@ public abstract class BaseNetworkImplementationDetailsUtilsTest {
             network);
     }
 
+    @Test
+    public void getAllInterfacesOutOfSyncNetworkInSync() {
+        Network network = createNetwork(testIface.isBridged(), testIface.getMtu(), testIface.getVlanId());
+        assertTrue(getAllInterfacesOutOfSync(network, qosA).isEmpty(), "No interface should be out of sync.");
+    }
+
+    @Test
+    public void getAllInterfacesOutOfSyncNetworkMtuOutOfSync() {
+        Network network = createNetwork(testIface.isBridged(), testIface.getMtu() + 1, testIface.getVlanId());
+        assertEquals(Collections.singleton(testIface), getAllInterfacesOutOfSync(network, qosA));
+    }
+
+    private Set<VdsNetworkInterface> getAllInterfacesOutOfSync(Network network, HostNetworkQos qos) {
+        network.setName(testIface.getNetworkName());
+        VdsNetworkInterface baseIface = calculateBaseNic.getBaseNic(testIface);
+        NetworkAttachment networkAttachment = createNetworkAttachment(qos, baseIface);
+        networkAttachment.setNetworkId(network.getId());
+
+        when(calculateBaseNic.getBaseNic(eq(testIface), any())).thenReturn(baseIface);
+        when(networkDaoMock.getNetworksForCluster(CLUSTER_ID))
+                .thenReturn(Collections.singletonMap(network.getName(), network));
+        when(interfaceDaoMock.getAllInterfacesByClusterId(CLUSTER_ID))
+                .thenReturn(Collections.singletonList(testIface));
+        when(networkAttachmentDaoMock.getAllForHost(VDS_ID)).thenReturn(Collections.singletonList(networkAttachment));
+
+        return networkImplementationDetailsUtils.getAllInterfacesOutOfSync(CLUSTER_ID);
+    }
+
     private void calculateNetworkImplementationDetailsAndAssertManaged(VdsNetworkInterface iface,
         boolean expectManaged,
         Network network) {
@@ -0,0 +1,70 @@
+package org.ovirt.engine.core.vdsbroker;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.ovirt.engine.core.common.businessentities.VDS;
+import org.ovirt.engine.core.common.businessentities.VDSStatus;
+import org.ovirt.engine.core.common.config.ConfigValues;
+import org.ovirt.engine.core.compat.Guid;
+import org.ovirt.engine.core.utils.MockConfigDescriptor;
+import org.ovirt.engine.core.utils.MockConfigExtension;
+
+@ExtendWith({ MockitoExtension.class, MockConfigExtension.class })
+public class VdsManagerTest {
+
+    private static final long REFRESH_RATE = TimeUnit.SECONDS.toMillis(2);
+    private static final long MAX_REFRESH_RATE = TimeUnit.SECONDS.toMillis(60);
+
+    @Mock
+    private ResourceManager resourceManager;
+
+    private VdsManager vdsManager;
+
+    public static Stream<MockConfigDescriptor<?>> mockConfiguration() {
+        return Stream.of(
+                MockConfigDescriptor.of(ConfigValues.NumberVmRefreshesBeforeSave, 5),
+                MockConfigDescriptor.of(ConfigValues.VdsRefreshRate, TimeUnit.MILLISECONDS.toSeconds(REFRESH_RATE)),
+                MockConfigDescriptor.of(ConfigValues.VdsMaxAdaptiveRefreshRate,
+                        (int) TimeUnit.MILLISECONDS.toSeconds(MAX_REFRESH_RATE)));
+    }
+
+    @BeforeEach
+    public void setUp() {
+        VDS vds = new VDS();
+        vds.setId(Guid.newGuid());
+        vds.setStatus(VDSStatus.Up);
+        vds.setVmsCoresCount(0);
+        vdsManager = new VdsManager(vds, resourceManager);
+    }
+
+    @Test
+    public void stableHostDeferredWhenBudgetExhausted() {
+        long now = System.currentTimeMillis();
+        assertFalse(vdsManager.isRefreshDeferred(now));
+
+        when(resourceManager.tryAcquireHostRefresh()).thenReturn(false);
+        assertTrue(vdsManager.isRefreshDeferred(now + REFRESH_RATE));
+    }
+
+    @Test
+    public void stableHostRefreshedAfterMaxRefreshRateWhenBudgetExhausted() {
+        long now = System.currentTimeMillis();
+        assertFalse(vdsManager.isRefreshDeferred(now));
+
+        when(resourceManager.tryAcquireHostRefresh()).thenReturn(false);
+        for (long time = now + REFRESH_RATE; time < now + MAX_REFRESH_RATE; time += REFRESH_RATE) {
+            assertTrue(vdsManager.isRefreshDeferred(time));
+        }
+        assertFalse(vdsManager.isRefreshDeferred(now + MAX_REFRESH_RATE));
+    }
+}
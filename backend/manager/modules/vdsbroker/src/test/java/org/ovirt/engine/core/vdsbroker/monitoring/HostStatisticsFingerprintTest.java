@@ -0,0 +1,82 @@
+package org.ovirt.engine.core.vdsbroker.monitoring;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.ovirt.engine.core.common.businessentities.VDS;
+import org.ovirt.engine.core.common.businessentities.network.VdsNetworkInterface;
+import org.ovirt.engine.core.compat.Guid;
+
+public class HostStatisticsFingerprintTest {
+
+    private VDS vds;
+
+    @BeforeEach
+    public void setUp() {
+        vds = new VDS();
+        vds.setId(Guid.newGuid());
+        vds.setUsageCpuPercent(40);
+        vds.setCpuLoad(2.0);
+        vds.setMemFree(10000L);
+        VdsNetworkInterface iface = new VdsNetworkInterface();
+        iface.setId(Guid.newGuid());
+        iface.getStatistics().setReceiveRate(100.0);
+        vds.getInterfaces().add(iface);
+    }
+
+    @Test
+    public void noPreviousStatistics() {
+        assertTrue(new HostStatisticsFingerprint(vds).isSignificantlyChangedFrom(null, 10));
+    }
+
+    @Test
+    public void unchangedStatistics() {
+        HostStatisticsFingerprint previous = new HostStatisticsFingerprint(vds);
+        assertFalse(new HostStatisticsFingerprint(vds).isSignificantlyChangedFrom(previous, 0));
+    }
+
+    @Test
+    public void anyChangeIsSignificantWithoutThreshold() {
+        HostStatisticsFingerprint previous = new HostStatisticsFingerprint(vds);
+        vds.setMemFree(10001L);
+        assertTrue(new HostStatisticsFingerprint(vds).isSignificantlyChangedFrom(previous, 0));
+    }
+
+    @Test
+    public void usageChangeBelowThreshold() {
+        HostStatisticsFingerprint previous = new HostStatisticsFingerprint(vds);
+        vds.setUsageCpuPercent(45);
+        assertFalse(new HostStatisticsFingerprint(vds).isSignificantlyChangedFrom(previous, 5));
+    }
+
+    @Test
+    public void usageChangeAboveThreshold() {
+        HostStatisticsFingerprint previous = new HostStatisticsFingerprint(vds);
+        vds.setUsageCpuPercent(46);
+        assertTrue(new HostStatisticsFingerprint(vds).isSignificantlyChangedFrom(previous, 5));
+    }
+
+    @Test
+    public void amountChangeBelowThreshold() {
+        HostStatisticsFingerprint previous = new HostStatisticsFingerprint(vds);
+        vds.setMemFree(10400L);
+        vds.getInterfaces().get(0).getStatistics().setReceiveRate(104.0);
+        assertFalse(new HostStatisticsFingerprint(vds).isSignificantlyChangedFrom(previous, 5));
+    }
+
+    @Test
+    public void amountChangeAboveThreshold() {
+        HostStatisticsFingerprint previous = new HostStatisticsFingerprint(vds);
+        vds.getInterfaces().get(0).getStatistics().setReceiveRate(110.0);
+        assertTrue(new HostStatisticsFingerprint(vds).isSignificantlyChangedFrom(previous, 5));
+    }
+
+    @Test
+    public void exactValueChange() {
+        HostStatisticsFingerprint previous = new HostStatisticsFingerprint(vds);
+        vds.setHighlyAvailableScore(3400);
+        assertTrue(new HostStatisticsFingerprint(vds).isSignificantlyChangedFrom(previous, 100));
+    }
+}
@@ -231,6 +231,32 @@ public class VmDevicesMonitoringTest {
         assertEquals(NEW_HASH, hashInfo.getSecond());
     }
 
+    @Test
+    public void testUpdateVmWithUnchangedDevices() {
+        VmDevice videoDevice = getVmDevice(VIDEO_DEVICE_ID, VM_ID, VmDeviceGeneralType.VIDEO, "vga", true);
+        videoDevice.setAddress(VIDEO_DEVICE_ADDRESS);
+        videoDevice.setAlias("vga0");
+        VmDevice cdromDevice = getVmDevice(CDROM_DEVICE_ID, VM_ID, VmDeviceGeneralType.DISK, "cdrom", true);
+        initDevices(videoDevice, cdromDevice);
+        initDumpXmls(
+                getDeviceInfo(VIDEO_DEVICE_ID, "video", "vga", VIDEO_DEVICE_ADDRESS),
+                getDeviceInfo(CDROM_DEVICE_ID, "disk", "cdrom", CDROM_DEVICE_ADDRESS)
+        );
+
+        vmDevicesMonitoring.initDevicesStatuses(1L);
+
+        VmDevicesMonitoring.Change change = vmDevicesMonitoring.createChange(VDS_ID, 2L);
+        change.updateVm(VM_ID, NEW_HASH);
+        change.flush();
+
+        ArgumentCaptor<Collection> updateCaptor = ArgumentCaptor.forClass(Collection.class);
+        verify(vmDeviceDao, times(1)).updateAllInBatch(updateCaptor.capture());
+        assertEquals(Collections.singletonList(cdromDevice), new ArrayList<>(updateCaptor.getValue()));
+        verify(vmDeviceDao, never()).removeAll(any());
+        verify(vmDeviceDao, never()).saveAll(any());
+        verify(vmDynamicDao, times(1)).updateDevicesHashes(any());
+    }
+
     @Test
     public void testUpdateVmFromFullList() {
         initDevices();
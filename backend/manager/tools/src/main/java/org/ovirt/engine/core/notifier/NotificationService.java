@@ -1,9 +1,11 @@
 package org.ovirt.engine.core.notifier;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Objects;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -37,6 +39,8 @@ public class NotificationService implements Runnable {
 
     private List<FirstMatchSimpleFilter.FilterEntry> configurationFilters;
 
+    private String loadedSubscribersChecksum;
+
     private List<Transport> transports = new LinkedList<>();
 
     private int failedQueries = 0;
@@ -102,37 +106,14 @@ public class NotificationService implements Runnable {
             try {
                 log.debug("Start event notification service iteration");
 
-                // Clear filter chain
-                firstMatchSimpleFilter.clearFilterEntries();
-
-                // Read Database subscriptions first
-                firstMatchSimpleFilter.addFilterEntries(eventsManager.getAuditLogEventSubscribers());
-
-                // Backward compatibility, aim to remove (can be replaced by "FILTER")
-                String dbDownSubscribers =
-                        prop.getProperty(NotificationProperties.FAILED_QUERIES_NOTIFICATION_RECIPIENTS, true);
-                if (!StringUtils.isEmpty(dbDownSubscribers)) {
-                    for (String subscriber : dbDownSubscribers.split(",")) {
-                        FirstMatchSimpleFilter.FilterEntry subscriberEntry = new FirstMatchSimpleFilter.FilterEntry(
-                                EventsManager.DATABASE_UNREACHABLE,
-                                null,
-                                false,
-                                EventNotificationMethod.SMTP.getAsString(),
-                                subscriber);
-                        List<FirstMatchSimpleFilter.FilterEntry> subscriberEntries = Collections.singletonList(subscriberEntry);
-                        firstMatchSimpleFilter.addFilterEntries(subscriberEntries);
-                    }
+                // Rebuild the filter chain only if the subscriptions were changed
+                String subscribersChecksum = eventsManager.getAuditLogEventSubscribersChecksum();
+                if (!subscribersChecksum.equals(loadedSubscribersChecksum)) {
+                    loadFilterEntries();
+                    loadedSubscribersChecksum = subscribersChecksum;
                 }
 
-                // Add configurations subscription
-                firstMatchSimpleFilter.addFilterEntries(
-                        configurationFilters
-                        );
-
-                for (AuditLogEvent event : eventsManager.getAuditLogEvents()) {
-                    firstMatchSimpleFilter.processEvent(event);
-                    eventsManager.updateAuditLogEventProcessed(event.getId());
-                }
+                processEvents(eventsManager.getAuditLogEvents());
                 deleteObsoleteHistoryData();
                 log.debug("Finished event notification service iteration");
             } catch (SQLException se) {
@@ -144,6 +125,68 @@ public class NotificationService implements Runnable {
         }
     }
 
+    private void loadFilterEntries() throws SQLException {
+        log.debug("Loading event subscriptions");
+
+        // Clear filter chain
+        firstMatchSimpleFilter.clearFilterEntries();
+
+        // Read Database subscriptions first
+        firstMatchSimpleFilter.addFilterEntries(eventsManager.getAuditLogEventSubscribers());
+
+        // Backward compatibility, aim to remove (can be replaced by "FILTER")
+        String dbDownSubscribers =
+                prop.getProperty(NotificationProperties.FAILED_QUERIES_NOTIFICATION_RECIPIENTS, true);
+        if (!StringUtils.isEmpty(dbDownSubscribers)) {
+            for (String subscriber : dbDownSubscribers.split(",")) {
+                FirstMatchSimpleFilter.FilterEntry subscriberEntry = new FirstMatchSimpleFilter.FilterEntry(
+                        EventsManager.DATABASE_UNREACHABLE,
+                        null,
+                        false,
+                        EventNotificationMethod.SMTP.getAsString(),
+                        subscriber);
+                List<FirstMatchSimpleFilter.FilterEntry> subscriberEntries = Collections.singletonList(subscriberEntry);
+                firstMatchSimpleFilter.addFilterEntries(subscriberEntries);
+            }
+        }
+
+        // Add configurations subscription
+        firstMatchSimpleFilter.addFilterEntries(
+                configurationFilters
+                );
+    }
+
+    /**
+     * Dispatches the given events and marks all of them as processed at once, including those dispatched before a
+     * failure, so they are not sent again.
+     */
+    private void processEvents(List<AuditLogEvent> events) throws SQLException {
+        if (events.isEmpty()) {
+            return;
+        }
+        long startTime = System.currentTimeMillis();
+        List<Long> processedEventIds = new ArrayList<>(events.size());
+        try {
+            for (AuditLogEvent event : events) {
+                firstMatchSimpleFilter.processEvent(event);
+                processedEventIds.add(event.getId());
+            }
+        } finally {
+            eventsManager.updateAuditLogEventsProcessed(processedEventIds);
+        }
+        long now = System.currentTimeMillis();
+        long lag = events.stream()
+                .map(AuditLogEvent::getLogTime)
+                .filter(Objects::nonNull)
+                .mapToLong(logTime -> now - logTime.getTime())
+                .max()
+                .orElse(0);
+        log.debug("Processed {} events in {} ms, the oldest event was waiting {} ms",
+                events.size(),
+                now - startTime,
+                lag);
+    }
+
     private void idle() {
         log.debug("Begin idle iteration");
         for (Transport transport : transports) {
@@ -157,6 +200,7 @@ public class NotificationService implements Runnable {
     }
 
     private void distributeDbDownEvent() {
+        loadedSubscribersChecksum = null;
         firstMatchSimpleFilter.clearFilterEntries();
         firstMatchSimpleFilter.addFilterEntries(
                 configurationFilters
@@ -95,6 +95,23 @@ public class EventsManager implements Observer {
         return eventSubscribers;
     }
 
+    /**
+     * Returns a checksum of the content of the event_subscriber table, used to detect changes of the subscriptions
+     * without reloading them.
+     */
+    public String getAuditLogEventSubscribersChecksum() throws SQLException {
+        try (Connection connection = ds.getConnection();
+             PreparedStatement ps = connection.prepareStatement(
+                            "SELECT COALESCE(MD5(STRING_AGG(" +
+                            "           CONCAT_WS(',', event_up_name, notification_method, method_address), ';' " +
+                            "           ORDER BY event_up_name, notification_method, method_address)), '') " +
+                            "       AS checksum " +
+                            "FROM event_subscriber ");
+             ResultSet rs = ps.executeQuery()) {
+            return rs.next() ? rs.getString("checksum") : "";
+        }
+    }
+
     public List<AuditLogEvent> getAuditLogEvents() throws SQLException {
         Set<String> downEvents = new HashSet<>(eventMap.values());
         List<AuditLogEvent> auditLogEvents = new ArrayList<>();
@@ -202,18 +219,22 @@ public class EventsManager implements Observer {
 
     }
 
-    public void updateAuditLogEventProcessed(long auditLogId)
+    public void updateAuditLogEventsProcessed(List<Long> auditLogIds)
             throws SQLException {
+        if (auditLogIds.isEmpty()) {
+            return;
+        }
         try (Connection connection = ds.getConnection();
              PreparedStatement ps = connection.prepareStatement(
                     "UPDATE audit_log " +
                     "SET processed = 'true' " +
-                    "WHERE audit_log_id = ? ;")) {
-            ps.setLong(1, auditLogId);
+                    "WHERE audit_log_id = ANY (?) ;")) {
+            ps.setArray(1, connection.createArrayOf("bigint", auditLogIds.toArray()));
             int updated = ps.executeUpdate();
-            if (updated != 1) {
-                log.error("Failed to mark audit_log entry as processed for audit_log_id: {}",
-                        auditLogId);
+            if (updated != auditLogIds.size()) {
+                log.error("Failed to mark {} out of {} audit_log entries as processed",
+                        auditLogIds.size() - updated,
+                        auditLogIds.size());
             }
         }
     }
@@ -9,6 +9,7 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 import org.ovirt.engine.core.common.AuditLogSeverity;
 import org.ovirt.engine.core.common.utils.ToStringBuilder;
@@ -43,6 +44,7 @@ public class FirstMatchSimpleFilter {
     private Map<String, Transport> transports = new HashMap<>();
     private List<FilterEntry> notify = new LinkedList<>();
     private Set<Recipient> recipients = new HashSet<>();
+    private Map<String, List<FilterEntry>> entriesByEventName = new HashMap<>();
 
     public void registerTransport(Transport transport) {
         transports.put(transport.getName(), transport);
@@ -64,23 +66,36 @@ public class FirstMatchSimpleFilter {
                 addRecipient(entry.getRecipient());
             }
         }
+        entriesByEventName.clear();
     }
 
     public void clearFilterEntries() {
         notify.clear();
         recipients.clear();
+        entriesByEventName.clear();
+    }
+
+    /**
+     * Returns the entries of the filter chain which may match events of the given name, keeping their order. The
+     * result is kept until the filter chain changes, so each event is matched against its own entries only.
+     */
+    private List<FilterEntry> getFilterEntries(String eventName) {
+        return entriesByEventName.computeIfAbsent(eventName,
+                name -> notify.stream()
+                        .filter(entry -> entry.getEventName() == null || entry.getEventName().equals(name))
+                        .collect(Collectors.toList()));
     }
 
     public void processEvent(AuditLogEvent event) {
         log.debug("Event: {}", event.getName());
+        List<FilterEntry> entries = getFilterEntries(event.getName());
+        if (entries.isEmpty()) {
+            return;
+        }
         for (Recipient recipient : recipients) {
             log.debug("Recipient: {}", recipient);
-            for (FilterEntry entry : notify) {
+            for (FilterEntry entry : entries) {
                 if ((
-                        entry.getEventName() == null ||
-                        entry.getEventName().equals(event.getName())
-                        ) &&
-                        (
                         entry.getSeverity() == null ||
                         (entry.isExclude() ? -1 : 1) * event.getSeverity().compareTo(entry.getSeverity()) >= 0
                         ) &&
@@ -138,6 +138,23 @@ public class FirstMatchSimpleFilterTest {
         assertTrue(smtp.getEvents().contains("message0-->dbtest1@redhat.com"));
     }
 
+    @Test
+    public void testEntriesAddedAfterProcessing() {
+        filter.clearFilterEntries();
+        filter.addFilterEntries(
+                Collections.singletonList(
+                        new FirstMatchSimpleFilter.FilterEntry("message0", null, false, "smtp", "dbtest1@redhat.com"))
+                );
+        filter.processEvent(new E("message1"));
+        assertTrue(smtp.getEvents().isEmpty());
+        filter.addFilterEntries(
+                Collections.singletonList(
+                        new FirstMatchSimpleFilter.FilterEntry("message1", null, false, "smtp", "dbtest1@redhat.com"))
+                );
+        filter.processEvent(new E("message1"));
+        assertTrue(smtp.getEvents().contains("message1-->dbtest1@redhat.com"));
+    }
+
     @Test
     public void testSimpleParse() {
         filter.clearFilterEntries();
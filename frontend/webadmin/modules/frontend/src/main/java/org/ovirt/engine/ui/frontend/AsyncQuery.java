@@ -30,7 +30,7 @@ public class AsyncQuery<T> {
         this.asyncCallback = asyncCallback;
     }
 
-    protected AsyncQuery(Object target, AsyncCallback<T> asyncCallback, boolean handleFailure) {
+    public AsyncQuery(Object target, AsyncCallback<T> asyncCallback, boolean handleFailure) {
         this.model = target;
         this.asyncCallback = asyncCallback;
         this.handleFailure = handleFailure;
@@ -309,6 +309,9 @@ public class AsyncDataProvider {
     //cached unsupported os ids
     private Set<Integer> unsupportedOsIds;
 
+    // cached results of lookup queries, validated by the change versions of their entities
+    private final QueryResultCache queryResultCache = new QueryResultCache();
+
     public String getDefaultConfigurationVersion() {
         return _defaultConfigurationVersion;
     }
@@ -330,6 +333,7 @@ public class AsyncDataProvider {
     }
 
     public void initCache(final LoginModel loginModel) {
+        queryResultCache.clear();
         cacheConfigValues(new AsyncQuery<>(returnValue -> getDefaultConfigurationVersion(loginModel)));
         initOsNames();
         initTimezones();
@@ -788,8 +792,10 @@ public class AsyncDataProvider {
 
     public void getClusterList(AsyncQuery<List<Cluster>> aQuery, Guid dataCenterId) {
         aQuery.converterCallback = new SortListByNameConverter<>();
-        Frontend.getInstance().runQuery(QueryType.GetClustersByStoragePoolId,
+        queryResultCache.runQuery(QueryType.GetClustersByStoragePoolId,
                 new IdQueryParameters(dataCenterId),
+                dataCenterId,
+                SearchType.Cluster,
                 aQuery);
     }
 
@@ -826,8 +832,10 @@ public class AsyncDataProvider {
             final ArrayList<Cluster> list = (ArrayList<Cluster>) source;
             return getClusterByServiceList(list, supportsVirtService, supportsGlusterService);
         };
-        Frontend.getInstance().runQuery(QueryType.GetClustersByStoragePoolId,
+        queryResultCache.runQuery(QueryType.GetClustersByStoragePoolId,
                 new IdQueryParameters(dataCenterId),
+                dataCenterId,
+                SearchType.Cluster,
                 aQuery);
     }
 
@@ -0,0 +1,112 @@
+package org.ovirt.engine.ui.uicommonweb.dataprovider;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.ovirt.engine.core.common.interfaces.SearchType;
+import org.ovirt.engine.core.common.queries.GetIfEntitiesChangedParameters;
+import org.ovirt.engine.core.common.queries.QueryParametersBase;
+import org.ovirt.engine.core.common.queries.QueryReturnValue;
+import org.ovirt.engine.core.common.queries.QueryType;
+import org.ovirt.engine.core.common.queries.VersionedQueryResult;
+import org.ovirt.engine.ui.frontend.AsyncQuery;
+import org.ovirt.engine.ui.frontend.Frontend;
+
+/**
+ * Cache of the results of lookup queries that are run each time a dialog opens, like the clusters of a data center.
+ *
+ * Each result is stored along with the change version of its entities, as read by the engine before running the
+ * query. Each lookup sends the known version with the query, and the engine runs the query only if the version
+ * changed since, otherwise the cached result is reused.
+ */
+public class QueryResultCache {
+
+    private static final int MAX_ENTRIES = 100;
+
+    private final Map<String, CacheEntry> entries = new LinkedHashMap<String, CacheEntry>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    private static class CacheEntry {
+        private final long version;
+        private final Object returnValue;
+
+        CacheEntry(long version, Object returnValue) {
+            this.version = version;
+            this.returnValue = returnValue;
+        }
+    }
+
+    /**
+     * Runs the given query, or reuses its cached result, and passes the result to the given callback the same way
+     * {@link Frontend#runQuery} does.
+     *
+     * @param queryType
+     *            the query to run
+     * @param parameters
+     *            the parameters of the query
+     * @param cacheKey
+     *            identifies the parameters of the query in the cache, e.g. the id of the queried entity
+     * @param searchType
+     *            the type of the entities returned by the query, whose change version invalidates the cached result
+     * @param aQuery
+     *            the callback to pass the result to
+     */
+    public void runQuery(QueryType queryType,
+            QueryParametersBase parameters,
+            Object cacheKey,
+            SearchType searchType,
+            AsyncQuery aQuery) {
+        String key = queryType.name() + ":" + cacheKey; //$NON-NLS-1$
+        CacheEntry cachedEntry = entries.get(key);
+        Frontend.getInstance().runQuery(QueryType.GetIfEntitiesChanged,
+                new GetIfEntitiesChangedParameters(queryType,
+                        parameters,
+                        searchType,
+                        cachedEntry == null ? null : cachedEntry.version),
+                new AsyncQuery<QueryReturnValue>(aQuery.getModel(), returnValue -> {
+                    if (returnValue == null || !returnValue.getSucceeded()) {
+                        entries.remove(key);
+                        if (aQuery.isHandleFailure()) {
+                            aQuery.getAsyncCallback().onSuccess(returnValue);
+                        }
+                        return;
+                    }
+
+                    VersionedQueryResult result = returnValue.getReturnValue();
+                    if (result.isChanged()) {
+                        entries.put(key, new CacheEntry(result.getVersion(), copy(result.getReturnValue())));
+                        onSuccess(aQuery, result.getReturnValue());
+                    } else {
+                        onSuccess(aQuery, copy(cachedEntry.returnValue));
+                    }
+                }, true));
+    }
+
+    private void onSuccess(AsyncQuery aQuery, Object returnValue) {
+        if (aQuery.getConverter() != null) {
+            aQuery.getAsyncCallback().onSuccess(aQuery.getConverter().convert(returnValue));
+        } else {
+            QueryReturnValue queryReturnValue = new QueryReturnValue();
+            queryReturnValue.setSucceeded(true);
+            queryReturnValue.setReturnValue(returnValue);
+            aQuery.getAsyncCallback().onSuccess(queryReturnValue);
+        }
+    }
+
+    /**
+     * Callers and their converters may modify the returned lists, so each of them gets its own copy.
+     */
+    private static Object copy(Object returnValue) {
+        return returnValue instanceof List ? new ArrayList<>((List<?>) returnValue) : returnValue;
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+}
@@ -11,6 +11,8 @@ import java.util.SortedSet;
 import java.util.logging.Logger;
 
 import org.ovirt.engine.core.common.businessentities.Queryable;
+import org.ovirt.engine.core.common.interfaces.SearchType;
+import org.ovirt.engine.core.common.queries.GetEntityChangeVersionParameters;
 import org.ovirt.engine.core.common.queries.QueryParametersBase;
 import org.ovirt.engine.core.common.queries.QueryReturnValue;
 import org.ovirt.engine.core.common.queries.QueryType;
@@ -327,6 +329,14 @@ public abstract class SearchableListModel<E, T> extends SortedListModel<T> imple
     private GridTimer timer;
     private int currentPageNumber = 1; //Default to 1
 
+    /**
+     * Number of grid timer ticks after which the search is re-run even if the change version did not change, to pick
+     * up changes that are not reported by audit log events.
+     */
+    private static final int MAX_SKIPPED_SEARCHES = 5;
+    private Object lastChangeVersion;
+    private int skippedSearches;
+
     /**
      * Setter for the grid timer.
      * @param value The new {@code GridTimer}.
@@ -359,10 +369,44 @@ public abstract class SearchableListModel<E, T> extends SortedListModel<T> imple
      * expires.
      */
     protected void doGridTimerExecute() {
+        SearchType changeVersionSearchType = getChangeVersionSearchType();
+        if (changeVersionSearchType == null || skippedSearches >= MAX_SKIPPED_SEARCHES) {
+            executeTimerSearch();
+            return;
+        }
+
+        Frontend.getInstance().runQuery(QueryType.GetEntityChangeVersion,
+                new GetEntityChangeVersionParameters(changeVersionSearchType),
+                new AsyncQuery<QueryReturnValue>(returnValue -> {
+                    Object version = returnValue != null && returnValue.getSucceeded()
+                            ? returnValue.getReturnValue() : null;
+                    if (version != null && version.equals(lastChangeVersion)) {
+                        skippedSearches++;
+                    } else {
+                        lastChangeVersion = version;
+                        executeTimerSearch();
+                    }
+                }, true));
+    }
+
+    private void executeTimerSearch() {
         logger.fine(SearchableListModel.this.getClass().getName() + ": Executing search"); //$NON-NLS-1$
+        skippedSearches = 0;
         syncSearch();
     }
 
+    /**
+     * Sub classes whose items only change along with the audit log events of their entities can override this
+     * method to return the type of their entities. The grid timer then re-runs the search only when the change
+     * version of that type changed since the last tick, or after {@link #MAX_SKIPPED_SEARCHES} skipped ticks.
+     *
+     * @return the search type whose change version is checked on each grid timer tick, or {@code null} for
+     *         searching on each tick
+     */
+    protected SearchType getChangeVersionSearchType() {
+        return null;
+    }
+
     /**
      * Add a {@code ValueChangeHandler} to the timer associated with this {@code SearchableListModel}.
      * The handler is used to update the refresh rate based on changes of other timers. So if another timer changes
@@ -364,6 +364,11 @@ public class ClusterListModel<E> extends ListWithSimpleDetailsModel<E, Cluster>
         });
     }
 
+    @Override
+    protected SearchType getChangeVersionSearchType() {
+        return SearchType.Cluster;
+    }
+
     @Override
     public boolean supportsServerSideSorting() {
         return true;
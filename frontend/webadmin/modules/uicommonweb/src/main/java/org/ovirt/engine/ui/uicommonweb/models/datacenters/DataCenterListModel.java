@@ -263,6 +263,11 @@ public class DataCenterListModel extends ListWithSimpleDetailsModel<Void, Storag
         super.syncSearch(QueryType.Search, parameters);
     }
 
+    @Override
+    protected SearchType getChangeVersionSearchType() {
+        return SearchType.StoragePool;
+    }
+
     @Override
     public boolean supportsServerSideSorting() {
         return true;
@@ -489,6 +489,11 @@ public class TemplateListModel extends VmBaseListModel<Void, VmTemplate> {
         super.syncSearch(QueryType.Search, tempVar);
     }
 
+    @Override
+    protected SearchType getChangeVersionSearchType() {
+        return SearchType.VmTemplate;
+    }
+
     @Override
     public boolean supportsServerSideSorting() {
         return true;
@@ -10,6 +10,7 @@ import org.ovirt.engine.core.common.queries.IdQueryParameters;
 import org.ovirt.engine.core.common.queries.QueryReturnValue;
 import org.ovirt.engine.core.common.queries.QueryType;
 import org.ovirt.engine.ui.frontend.Frontend;
+import org.ovirt.engine.ui.uicommonweb.dataprovider.AsyncDataProvider;
 import org.ovirt.engine.ui.uicommonweb.help.HelpTag;
 import org.ovirt.engine.ui.uicommonweb.models.SearchableListModel;
 import org.ovirt.engine.ui.uicompat.ConstantsManager;
@@ -51,7 +52,13 @@ public class VmAppListModel<E> extends SearchableListModel<E, String> {
 
     protected void updateAppList() {
         if (getEntity() instanceof VM) {
-            updateAppListFromVm((VM) getEntity());
+            VM vm = (VM) getEntity();
+            if (vm.getAppList() != null) {
+                updateAppListFromVm(vm);
+            } else {
+                // VMs listed without their details do not have their application list, query it
+                AsyncDataProvider.getInstance().getVmById(new AsyncQuery<>(this::updateAppListFromVm), vm.getId());
+            }
         } else {
             VmPool pool = (VmPool) getEntity();
             if (pool != null) {
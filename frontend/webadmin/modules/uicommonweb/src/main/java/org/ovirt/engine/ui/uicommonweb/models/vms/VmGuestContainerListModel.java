@@ -2,6 +2,7 @@ package org.ovirt.engine.ui.uicommonweb.models.vms;
 
 import org.ovirt.engine.core.common.businessentities.GuestContainer;
 import org.ovirt.engine.core.common.businessentities.VM;
+import org.ovirt.engine.ui.uicommonweb.dataprovider.AsyncDataProvider;
 import org.ovirt.engine.ui.uicommonweb.help.HelpTag;
 import org.ovirt.engine.ui.uicommonweb.models.SearchableListModel;
 import org.ovirt.engine.ui.uicompat.ConstantsManager;
@@ -33,8 +34,18 @@ public class VmGuestContainerListModel extends SearchableListModel<VM, GuestCont
     }
 
     protected void updateGuestContainers() {
-        if (getEntity() != null) {
+        if (getEntity() == null) {
+            return;
+        }
+        if (getEntity().getGuestContainers() != null) {
             setItems(getEntity().getGuestContainers());
+        } else {
+            // VMs listed without their details do not have their guest containers, query them
+            AsyncDataProvider.getInstance().getVmById(new AsyncQuery<>(vm -> {
+                if (vm != null) {
+                    setItems(vm.getGuestContainers());
+                }
+            }), getEntity().getId());
         }
     }
 
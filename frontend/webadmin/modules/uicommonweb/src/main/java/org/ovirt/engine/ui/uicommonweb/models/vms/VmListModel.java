@@ -731,6 +731,8 @@ public class VmListModel<E> extends VmBaseListModel<E, VM>
         SearchParameters tempVar = new SearchParameters(applySortOptions(getModifiedSearchString()),
                 SearchType.VM, isCaseSensitiveSearch());
         tempVar.setMaxCount(getSearchPageSize());
+        // the details omitted from the list are queried by the detail models of the selected VM
+        tempVar.setWithoutDetails(true);
         super.syncSearch(QueryType.Search, tempVar);
     }
 
@@ -0,0 +1,140 @@
+package org.ovirt.engine.ui.uicommonweb.dataprovider;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.ovirt.engine.core.common.interfaces.SearchType;
+import org.ovirt.engine.core.common.queries.GetIfEntitiesChangedParameters;
+import org.ovirt.engine.core.common.queries.IdQueryParameters;
+import org.ovirt.engine.core.common.queries.QueryReturnValue;
+import org.ovirt.engine.core.common.queries.QueryType;
+import org.ovirt.engine.core.common.queries.VersionedQueryResult;
+import org.ovirt.engine.core.compat.Guid;
+import org.ovirt.engine.ui.frontend.AsyncQuery;
+import org.ovirt.engine.ui.frontend.Frontend;
+import org.ovirt.engine.ui.uicommonweb.junit.UiCommonSetupExtension;
+
+@ExtendWith(UiCommonSetupExtension.class)
+public class QueryResultCacheTest {
+
+    private static final QueryType QUERY_TYPE = QueryType.GetClustersByStoragePoolId;
+
+    private final Object model = new Object();
+    private final Guid dataCenterId = Guid.newGuid();
+    private final List<QueryReturnValue> results = new ArrayList<>();
+
+    private QueryResultCache cache;
+
+    @BeforeEach
+    public void setUp() {
+        cache = new QueryResultCache();
+    }
+
+    @Test
+    public void missSendsNoKnownVersion() {
+        runQuery();
+        GetIfEntitiesChangedParameters parameters = respond(1, new VersionedQueryResult(1, true, Arrays.asList("cluster")));
+
+        assertThat(parameters.getQueryType()).isEqualTo(QUERY_TYPE);
+        assertThat(parameters.getSearchType()).isEqualTo(SearchType.Cluster);
+        assertThat(parameters.getKnownVersion()).isNull();
+        assertThat(results).hasSize(1);
+        assertThat((List<?>) results.get(0).getReturnValue()).containsExactly("cluster");
+        verify(Frontend.getInstance(), never()).runQuery(eq(QUERY_TYPE), any(), any());
+    }
+
+    @Test
+    public void hitReusesResultWhileVersionUnchanged() {
+        runQuery();
+        respond(1, new VersionedQueryResult(1, true, Arrays.asList("cluster")));
+
+        runQuery();
+        GetIfEntitiesChangedParameters parameters = respond(2, new VersionedQueryResult(1, false, null));
+
+        assertThat(parameters.getKnownVersion()).isEqualTo(1L);
+        assertThat(results).hasSize(2);
+        assertThat((List<?>) results.get(1).getReturnValue()).containsExactly("cluster");
+    }
+
+    @Test
+    public void changedResultReplacesCachedResult() {
+        runQuery();
+        respond(1, new VersionedQueryResult(1, true, Arrays.asList("cluster")));
+
+        runQuery();
+        respond(2, new VersionedQueryResult(2, true, Arrays.asList("cluster", "other cluster")));
+
+        runQuery();
+        GetIfEntitiesChangedParameters parameters = respond(3, new VersionedQueryResult(2, false, null));
+
+        assertThat(parameters.getKnownVersion()).isEqualTo(2L);
+        assertThat(results).hasSize(3);
+        assertThat((List<?>) results.get(1).getReturnValue()).containsExactly("cluster", "other cluster");
+        assertThat((List<?>) results.get(2).getReturnValue()).containsExactly("cluster", "other cluster");
+    }
+
+    @Test
+    public void failedResultNotCached() {
+        runQuery();
+        respond(1, new VersionedQueryResult(1, true, Arrays.asList("cluster")));
+
+        runQuery();
+        respondFailure(2);
+
+        runQuery();
+        GetIfEntitiesChangedParameters parameters = respond(3, new VersionedQueryResult(1, true, Arrays.asList("cluster")));
+
+        assertThat(parameters.getKnownVersion()).isNull();
+    }
+
+    private void runQuery() {
+        cache.runQuery(QUERY_TYPE,
+                new IdQueryParameters(dataCenterId),
+                dataCenterId,
+                SearchType.Cluster,
+                new AsyncQuery<QueryReturnValue>(model, results::add, false));
+    }
+
+    /**
+     * Responds to the last of the given number of lookups that were run, returning the parameters it was run with.
+     */
+    private GetIfEntitiesChangedParameters respond(int count, VersionedQueryResult result) {
+        QueryReturnValue queryReturnValue = new QueryReturnValue();
+        queryReturnValue.setSucceeded(true);
+        queryReturnValue.setReturnValue(result);
+        return respond(count, queryReturnValue);
+    }
+
+    private GetIfEntitiesChangedParameters respondFailure(int count) {
+        QueryReturnValue queryReturnValue = new QueryReturnValue();
+        queryReturnValue.setSucceeded(false);
+        return respond(count, queryReturnValue);
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private GetIfEntitiesChangedParameters respond(int count, QueryReturnValue queryReturnValue) {
+        ArgumentCaptor<GetIfEntitiesChangedParameters> parametersCaptor =
+                ArgumentCaptor.forClass(GetIfEntitiesChangedParameters.class);
+        ArgumentCaptor<AsyncQuery> queryCaptor = ArgumentCaptor.forClass(AsyncQuery.class);
+        verify(Frontend.getInstance(), times(count)).runQuery(eq(QueryType.GetIfEntitiesChanged),
+                parametersCaptor.capture(),
+                queryCaptor.capture());
+
+        AsyncQuery query = queryCaptor.getValue();
+        assertThat(query.getModel()).isSameAs(model);
+        query.getAsyncCallback().onSuccess(queryReturnValue);
+        return parametersCaptor.getValue();
+    }
+}
@@ -2,7 +2,14 @@ package org.ovirt.engine.ui.uicommonweb.models;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.withSettings;
 
 import java.util.ArrayList;
@@ -11,6 +18,12 @@ import java.util.Arrays;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Answers;
+import org.mockito.ArgumentCaptor;
+import org.ovirt.engine.core.common.interfaces.SearchType;
+import org.ovirt.engine.core.common.queries.QueryReturnValue;
+import org.ovirt.engine.core.common.queries.QueryType;
+import org.ovirt.engine.ui.frontend.AsyncQuery;
+import org.ovirt.engine.ui.frontend.Frontend;
 import org.ovirt.engine.ui.uicommonweb.junit.UiCommonSetupExtension;
 
 @ExtendWith(UiCommonSetupExtension.class)
@@ -44,4 +57,70 @@ public class SearchableListModelTest {
         assertEquals(null, listModel.getSelectedItem());
         assertThat(listModel.getSelectedItems()).isEmpty();
     }
+
+    @Test
+    public void searchSkippedWhileChangeVersionUnchanged() {
+        SearchableListModel<Void, Integer> listModel = mockChangeVersionListModel();
+
+        tickWithChangeVersion(listModel, 1L, 1);
+        verify(listModel, times(1)).syncSearch();
+
+        tickWithChangeVersion(listModel, 1L, 2);
+        verify(listModel, times(1)).syncSearch();
+
+        tickWithChangeVersion(listModel, 2L, 3);
+        verify(listModel, times(2)).syncSearch();
+    }
+
+    @Test
+    public void searchRunAfterMaxSkippedSearches() {
+        SearchableListModel<Void, Integer> listModel = mockChangeVersionListModel();
+
+        tickWithChangeVersion(listModel, 1L, 1);
+        for (int tick = 2; tick <= 6; tick++) {
+            tickWithChangeVersion(listModel, 1L, tick);
+        }
+        verify(listModel, times(1)).syncSearch();
+
+        listModel.doGridTimerExecute();
+        verify(listModel, times(2)).syncSearch();
+        verify(Frontend.getInstance(), times(6)).runQuery(eq(QueryType.GetEntityChangeVersion), any(), any());
+    }
+
+    @Test
+    public void searchRunOnEachTickWithoutChangeVersion() {
+        SearchableListModel<Void, Integer> listModel =
+                mock(SearchableListModel.class,
+                        withSettings().useConstructor().defaultAnswer(Answers.CALLS_REAL_METHODS));
+        doNothing().when(listModel).syncSearch();
+
+        listModel.doGridTimerExecute();
+        listModel.doGridTimerExecute();
+
+        verify(listModel, times(2)).syncSearch();
+        verify(Frontend.getInstance(), never()).runQuery(eq(QueryType.GetEntityChangeVersion), any(), any());
+    }
+
+    private SearchableListModel<Void, Integer> mockChangeVersionListModel() {
+        SearchableListModel<Void, Integer> listModel =
+                mock(SearchableListModel.class,
+                        withSettings().useConstructor().defaultAnswer(Answers.CALLS_REAL_METHODS));
+        doReturn(SearchType.Cluster).when(listModel).getChangeVersionSearchType();
+        doNothing().when(listModel).syncSearch();
+        return listModel;
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private void tickWithChangeVersion(SearchableListModel<Void, Integer> listModel, long version, int tick) {
+        listModel.doGridTimerExecute();
+
+        ArgumentCaptor<AsyncQuery> captor = ArgumentCaptor.forClass(AsyncQuery.class);
+        verify(Frontend.getInstance(), times(tick))
+                .runQuery(eq(QueryType.GetEntityChangeVersion), any(), captor.capture());
+
+        QueryReturnValue returnValue = new QueryReturnValue();
+        returnValue.setSucceeded(true);
+        returnValue.setReturnValue(version);
+        captor.getValue().getAsyncCallback().onSuccess(returnValue);
+    }
 }
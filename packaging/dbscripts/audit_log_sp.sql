@@ -449,6 +449,56 @@ BEGIN
 END;$FUNCTION$
 LANGUAGE plpgsql;
 
+CREATE OR REPLACE FUNCTION DeleteAuditLogOlderThenDateInBatch (
+    v_date TIMESTAMP WITH TIME ZONE,
+    v_batch_size INT,
+    v_pause_in_millis INT
+    )
+RETURNS INT AS $FUNCTION$
+DECLARE v_id BIGINT;
+
+deleted_rows INT;
+
+total_deleted_rows INT := 0;
+
+BEGIN
+    -- get first the id from which to remove in order to use index
+    SELECT audit_log_id
+    INTO v_id
+    FROM audit_log
+    WHERE LOG_TIME < v_date
+    ORDER BY audit_log_id DESC LIMIT 1;
+
+    IF (v_id IS NULL) THEN
+        RETURN 0;
+    END IF;
+
+    -- remove the oldest entries first, at most v_batch_size of them at a time
+    LOOP
+        DELETE
+        FROM audit_log
+        WHERE audit_log_id IN (
+                SELECT audit_log_id
+                FROM audit_log
+                WHERE audit_log_id <= v_id
+                ORDER BY audit_log_id LIMIT v_batch_size
+                );
+
+        GET DIAGNOSTICS deleted_rows = ROW_COUNT;
+
+        EXIT WHEN deleted_rows = 0;
+
+        total_deleted_rows := total_deleted_rows + deleted_rows;
+
+        IF (v_pause_in_millis > 0) THEN
+            PERFORM pg_sleep(v_pause_in_millis / 1000.0);
+        END IF;
+    END LOOP;
+
+    RETURN total_deleted_rows;
+END;$FUNCTION$
+LANGUAGE plpgsql;
+
 CREATE OR REPLACE FUNCTION DeleteAuditAlertLogByVdsIDAndType (
     v_vds_id UUID,
     v_log_type INT
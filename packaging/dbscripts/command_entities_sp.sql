@@ -231,6 +231,47 @@ END;$FUNCTION$
 
 LANGUAGE plpgsql;
 
+DROP TYPE IF EXISTS command_entity_headers_rs CASCADE;
+CREATE TYPE command_entity_headers_rs AS (
+        command_id UUID,
+        command_type INT,
+        root_command_id UUID,
+        created_at TIMESTAMP WITH TIME ZONE,
+        status VARCHAR(20),
+        callback_enabled BOOLEAN,
+        callback_notified BOOLEAN,
+        executed BOOLEAN,
+        user_id UUID,
+        parent_command_id UUID,
+        data TEXT,
+        engine_session_seq_id BIGINT,
+        command_context TEXT
+        );
+
+CREATE OR REPLACE FUNCTION GetAllCommandEntityHeaders ()
+RETURNS SETOF command_entity_headers_rs STABLE AS $FUNCTION$
+
+BEGIN
+    RETURN QUERY
+
+    SELECT command_id,
+        command_type,
+        root_command_id,
+        created_at,
+        status,
+        callback_enabled,
+        callback_notified,
+        executed,
+        user_id,
+        parent_command_id,
+        data,
+        engine_session_seq_id,
+        command_context
+    FROM command_entities;
+END;$FUNCTION$
+
+LANGUAGE plpgsql;
+
 CREATE OR REPLACE FUNCTION GetCommandEntitiesByParentCmdId (v_root_command_id uuid)
 RETURNS SETOF command_entities STABLE AS $FUNCTION$
 
@@ -260,20 +301,18 @@ END;$FUNCTION$
 LANGUAGE plpgsql;
 
 CREATE OR REPLACE FUNCTION DeleteCommandEntitiesOlderThanDate (v_date TIMESTAMP WITH TIME ZONE)
-RETURNS VOID AS $FUNCTION$
-
-DECLARE v_id INT;
-
-SWV_RowCount INT;
-
+RETURNS SETOF UUID AS $FUNCTION$
 BEGIN
+    RETURN QUERY
+
     DELETE
     FROM command_entities
     WHERE CREATED_AT < v_date
         AND command_id NOT IN (
             SELECT command_id
             FROM async_tasks
-            );
+            )
+    RETURNING command_id;
 END;$FUNCTION$
 
 LANGUAGE plpgsql;
@@ -326,4 +365,14 @@ END;$FUNCTION$
 
 LANGUAGE plpgsql;
 
+CREATE OR REPLACE FUNCTION GetAllFromCommandAssociatedEntities ()
+RETURNS SETOF command_assoc_entities STABLE AS $FUNCTION$
+
+BEGIN
+    RETURN QUERY
 
+    SELECT *
+    FROM command_assoc_entities;
+END;$FUNCTION$
+
+LANGUAGE plpgsql;
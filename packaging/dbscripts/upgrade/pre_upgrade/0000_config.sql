@@ -51,6 +51,8 @@ select fn_db_rename_config_key('MaxNumOfTriesToRunFailedAutoStartVm','NumOfTries
 ------------------------------------------------------------------------------------
 select fn_db_add_config_value('BootstrapMinimalVdsmVersion','4.9','general');
 select fn_db_add_config_value('AffinityRulesEnforcementManagerEnabled', 'true', 'general');
+select fn_db_add_config_value('AffinityRulesEnforcementManagerMaxMigrationsPerCluster', '1', 'general');
+select fn_db_add_config_value('AffinityRulesEnforcementManagerMaxParallelClusters', '10', 'general');
 select fn_db_add_config_value('AffinityRulesEnforcementManagerRegularInterval', '1', 'general');
 
 select fn_db_add_config_value('AgentAppName','ovirt-guest-agent-common,ovirt-guest-agent','general');
@@ -64,6 +66,8 @@ select fn_db_add_config_value('AsyncTaskStatusCachingTimeInMinutes','1','general
 select fn_db_add_config_value('AsyncTaskZombieTaskLifeInMinutes','300','general');
 select fn_db_add_config_value('AuditLogAgingThreshold','30','general');
 select fn_db_add_config_value('AuditLogCleanupTime','03:35:35','general');
+select fn_db_add_config_value('AuditLogCleanupBatchSize','10000','general');
+select fn_db_add_config_value('AuditLogCleanupBatchPauseInMillis','100','general');
 select fn_db_add_config_value('CoCoLifeInMinutes','3000','general');
 select fn_db_add_config_value('CoCoWaitForEventInMinutes','300','general');
 select fn_db_add_config_value('CommandEntityAgingThreshold','30','general');
@@ -145,6 +149,8 @@ select fn_db_add_config_value('GlusterRefreshRateHooks', '7200', 'general');
 select fn_db_add_config_value('GlusterRefreshRateLight', '15', 'general');
 select fn_db_add_config_value('GlusterRefreshRateHeavy', '900', 'general');
 select fn_db_add_config_value('GlusterRefreshRateStorageDevices', '7200', 'general');
+select fn_db_add_config_value('GlusterSyncMaxParallelClusters', '4', 'general');
+select fn_db_add_config_value('GlusterSyncMaxParallelTasksPerCluster', '4', 'general');
 select fn_db_add_config_value('GlusterVolumeOptionGroupVirtValue','virt','general');
 select fn_db_add_config_value('GlusterVolumeOptionOwnerUserVirtValue','36','general');
 select fn_db_add_config_value('GlusterVolumeOptionOwnerGroupVirtValue','36','general');
@@ -382,6 +388,7 @@ select fn_db_add_config_value('oVirtUpgradeScriptName','/usr/share/vdsm-reg/vdsm
 select fn_db_add_config_value('oVirtUploadPath','/data/updates/ovirt-node-image.iso','general');
 select fn_db_add_config_value('OvfUpdateIntervalInMinutes','60','general');
 select fn_db_add_config_value('OvfItemsCountPerUpdate','100','general');
+select fn_db_add_config_value('OvfUpdateMaxParallelEntities','4','general');
 select fn_db_add_config_value('PayloadSize','8192','general');
 -- Power management health check
 select fn_db_add_config_value('PMHealthCheckEnabled','false','general');
@@ -679,10 +686,15 @@ select fn_db_add_config_value('VdsFenceOptionTypes','encrypt_options=bool,secure
 select fn_db_add_config_value('CustomVdsFenceType','','general');
 select fn_db_add_config_value('vdsHeartbeatInSeconds','30','general');
 select fn_db_add_config_value('VdsLoadBalancingIntervalInMinutes','1','general');
+select fn_db_add_config_value('VdsLoadBalancingMaxMigrationsPerCycle','1','general');
 select fn_db_add_config_value('VdsLocalDisksCriticallyLowFreeSpace','100','general');
 select fn_db_add_config_value('VdsLocalDisksLowFreeSpace','100','general');
 select fn_db_add_config_value('VdsRecoveryTimeoutInMinutes','3','general');
 select fn_db_add_config_value('VdsRefreshRate','2','general');
+select fn_db_add_config_value('VdsMaxAdaptiveRefreshRate','0','general');
+select fn_db_add_config_value('VdsMaxRefreshesPerSecond','0','general');
+select fn_db_add_config_value('VdsStatisticsSignificantChangeThreshold','0','general');
+select fn_db_add_config_value('VdsStatisticsMaxSaveIntervalInSeconds','300','general');
 select fn_db_add_config_value('vdsRetries','0','general');
 select fn_db_add_config_value('vdsTimeout','180','general');
 select fn_db_add_config_value('WindowsGuestAgentUpdateCheckInternal', '180', 'general');
@@ -700,6 +712,8 @@ select fn_db_add_config_value('VmPoolMaxSubsequentFailures','3','general');
 select fn_db_add_config_value('VmPoolMonitorBatchSize','5','general');
 select fn_db_add_config_value('VmPoolMonitorIntervalInMinutes','5','general');
 select fn_db_add_config_value('VmPoolMonitorMaxAttempts','3','general');
+select fn_db_add_config_value('VmPoolMonitorMaxParallelPools','10','general');
+select fn_db_add_config_value('VmPoolMonitorMaxPrestartsPerCycle','50','general');
 select fn_db_add_config_value('VmPriorityMaxValue','100','general');
 --How often we'll go over the HA VMs that went down and try to restart them
 select fn_db_add_config_value('AutoStartVmsRunnerIntervalInSeconds','1','general');
@@ -714,6 +728,9 @@ select fn_db_add_config_value('DelayToRunAutoStartVmIntervalInSeconds','10','gen
 --How many times we try to wait for the HA VM NextRun configuration to be applied
 select fn_db_add_config_value('MaxNumOfSkipsBeforeAutoStartVm','3','general');
 select fn_db_add_config_value('MaxTimeAutoStartBlockedOnPriority','600','general');
+--How many HA VMs of the same priority we'll try to restart in parallel
+select fn_db_add_config_value('AutoStartVmsRunnerMaxParallelStarts','10','general');
+select fn_db_add_config_value('ParallelBackendServicesInitialization','false','general');
 --Handling Keyboard Layout configuration for VNC
 select fn_db_add_config_value('VncKeyboardLayout','en-us','general');
 select fn_db_add_config_value('VncKeyboardLayoutValidValues','ar,da,de,de-ch,en-gb,en-us,es,et,fi,fo,fr,fr-be,fr-ca,fr-ch,hr,hu,is,it,ja,lt,lv,mk,nl,no,pl,pt,pt-br,ru,sl,sv,th,tr','general');
@@ -996,6 +1013,7 @@ select fn_db_add_config_value('CinderlibCommandTimeoutInMinutes','2','general');
 select fn_db_add_config_value('NumOfPciExpressPorts', '16', 'general');
 
 select fn_db_add_config_value('SetupNetworksWaitTimeoutSeconds', '20', 'general');
+select fn_db_add_config_value('SetupNetworksMaxParallelHosts', '20', 'general');
 
 -- Sku -> Version mapping for Windows Update
 select fn_db_add_config_value_for_versions_up_to('SkuToAVLevel', '', '4.8');